@@ -0,0 +1,65 @@
+package Benchmark;
+
+/**
+ * Stores the measurements of a single benchmark: the throughput of every
+ * measurement iteration and the average number of bytes allocated per operation.
+ */
+public class BenchmarkResult {
+    private final String name;
+    private final double[] iterationThroughputs;
+    private final long operationCount;
+    private final double bytesPerOperation;
+
+    /**
+     * Constructs a new BenchmarkResult.
+     * @param name The name of the benchmark.
+     * @param iterationThroughputs The operations per second of each measurement iteration.
+     * @param operationCount The total number of operations measured.
+     * @param bytesPerOperation The average bytes allocated per operation, or a negative value if
+     *                          allocation could not be measured.
+     */
+    public BenchmarkResult(String name, double[] iterationThroughputs, long operationCount, double bytesPerOperation) {
+        this.name = name;
+        this.iterationThroughputs = iterationThroughputs;
+        this.operationCount = operationCount;
+        this.bytesPerOperation = bytesPerOperation;
+    }
+
+    public String getName() { return name; }
+
+    public long getOperationCount() { return operationCount; }
+
+    public double getBytesPerOperation() { return bytesPerOperation; }
+
+    /**
+     * @return The mean operations per second over all measurement iterations.
+     */
+    public double getOperationsPerSecond() {
+        double total = 0;
+        for (double throughput : iterationThroughputs)
+            total += throughput;
+
+        return total / iterationThroughputs.length;
+    }
+
+    /**
+     * @return The sample standard deviation of the operations per second over all measurement iterations.
+     */
+    public double getOperationsPerSecondError() {
+        if (iterationThroughputs.length < 2)
+            return 0;
+
+        double mean = getOperationsPerSecond();
+        double sumOfSquares = 0;
+        for (double throughput : iterationThroughputs)
+            sumOfSquares += (throughput - mean) * (throughput - mean);
+
+        return Math.sqrt(sumOfSquares / (iterationThroughputs.length - 1));
+    }
+
+    @Override
+    public String toString() {
+        String bytes = bytesPerOperation < 0 ? "n/a" : String.format("%.1f", bytesPerOperation);
+        return String.format("%-32s %16.1f +- %-12.1f %14s", name, getOperationsPerSecond(), getOperationsPerSecondError(), bytes);
+    }
+}
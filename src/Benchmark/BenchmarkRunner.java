@@ -0,0 +1,119 @@
+package Benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the throughput and allocation rate of a single operation. Each benchmark
+ * runs a number of timed warmup iterations, which are discarded, followed by timed
+ * measurement iterations. Allocation is measured on the calling thread, so operations
+ * should do their work on the thread that calls them.
+ */
+public class BenchmarkRunner {
+    /**
+     * A single benchmarked operation. The returned value is consumed by the runner so
+     * the JIT cannot remove the work that produced it.
+     */
+    public interface Operation {
+        Object run();
+    }
+
+    private static final int OPERATIONS_PER_CHECK = 16;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private int sink;
+
+    /**
+     * Constructs a new BenchmarkRunner.
+     * @param warmupIterations The number of iterations run before measuring.
+     * @param measurementIterations The number of measured iterations.
+     * @param iterationMillis The length of each iteration, in milliseconds.
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+        if (warmupIterations < 0 || measurementIterations < 1 || iterationMillis < 1)
+            throw new IllegalArgumentException("A benchmark needs at least one measurement iteration of at least 1 ms.");
+
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000;
+        this.threadBean = createThreadBean();
+    }
+
+    /**
+     * Runs a benchmark.
+     * @param name The name reported for the benchmark.
+     * @param operation The operation to measure.
+     * @return The measurements of the benchmark.
+     */
+    public BenchmarkResult run(String name, Operation operation) {
+        for (int i = 0; i < warmupIterations; i++)
+            runIteration(operation);
+
+        double[] throughputs = new double[measurementIterations];
+        long operationCount = 0;
+        long allocatedBytes = 0;
+
+        for (int i = 0; i < measurementIterations; i++) {
+            long startBytes = getAllocatedBytes();
+            long startTime = System.nanoTime();
+
+            long operations = runIteration(operation);
+
+            long elapsedNanos = System.nanoTime() - startTime;
+            allocatedBytes += getAllocatedBytes() - startBytes;
+            operationCount += operations;
+            throughputs[i] = operations / (elapsedNanos / 1e9);
+        }
+
+        double bytesPerOperation = threadBean == null ? -1 : (double) allocatedBytes / operationCount;
+        return new BenchmarkResult(name, throughputs, operationCount, bytesPerOperation);
+    }
+
+    /**
+     * Runs the operation until the iteration time has passed, checking the clock every few operations.
+     * @return The number of operations run.
+     */
+    private long runIteration(Operation operation) {
+        long deadline = System.nanoTime() + iterationNanos;
+        long operations = 0;
+
+        do {
+            for (int i = 0; i < OPERATIONS_PER_CHECK; i++)
+                consume(operation.run());
+            operations += OPERATIONS_PER_CHECK;
+        } while (System.nanoTime() < deadline);
+
+        return operations;
+    }
+
+    private void consume(Object result) {
+        sink += System.identityHashCode(result);
+    }
+
+    /**
+     * @return The sum of the identity hashes of every consumed result. Never meaningful, but reading it
+     * keeps the consumed results alive.
+     */
+    public int getSink() { return sink; }
+
+    private long getAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @return The HotSpot ThreadMXBean with allocation measurement enabled, or null if the JVM does not support it.
+     */
+    private static com.sun.management.ThreadMXBean createThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+            return null;
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported())
+            return null;
+
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+}
@@ -0,0 +1,239 @@
+package Benchmark;
+
+import Boundary.IOManager;
+import Boundary.Outputable;
+import Control.*;
+import Entity.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmarks of the fight pipeline, from a single damage calculation up to a full
+ * Season, reported as operations per second and bytes allocated per operation.
+ * Events are published to a bus without sinks, and every Fight, Battle and Season benchmark reseeds
+ * its random number generators before each operation so every operation plays the
+ * same game.
+ *
+ * Arguments:
+ *   --warmup &lt;int&gt;      The number of warmup iterations (default 5)
+ *   --iterations &lt;int&gt;  The number of measurement iterations (default 5)
+ *   --time &lt;int&gt;        The length of each iteration in milliseconds (default 1000)
+ *   --players &lt;int&gt;     The number of players in the SeasonIterator benchmark (default 512)
+ *   --filter &lt;text&gt;     Only runs the benchmarks whose names contain the text
+ */
+public class FightBenchmarks {
+    private static final String USAGE =
+            "Usage: FightBenchmarks [--warmup <int>] [--iterations <int>] [--time <int>] [--players <int>] [--filter <text>]";
+    private static final long SEED = 1;
+    private static final int FIGHTS_PER_BATTLE = 3;
+    private static final int SEASON_PLAYERS = 8;
+    private static final int ROUNDS_PER_FIGHT = 256;
+    private static final double STARTING_HP = 100;
+
+    private int warmupIterations = 5;
+    private int measurementIterations = 5;
+    private int iterationMillis = 1000;
+    private int iteratorPlayers = 512;
+    private String filter = "";
+
+    public static void main(String[] args) {
+        IOManager ioManager = IOManager.getInstance();
+        FightBenchmarks benchmarks = new FightBenchmarks();
+
+        try {
+            benchmarks.parseArguments(args);
+            benchmarks.run();
+        }
+        catch (IllegalArgumentException | IllegalStateException ex) {
+            ioManager.getOutputStream().writeOutput(ex.getMessage() + "\n" + USAGE);
+        }
+    }
+
+    /**
+     * Applies every "--key value" pair of the given arguments.
+     * @param args The command line arguments.
+     */
+    public void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Expected \"--<key> <value>\" but found \"" + args[i] + "\".");
+
+            String value = args[i + 1];
+            switch (args[i].substring(2)) {
+                case "warmup":
+                    warmupIterations = parseInteger(value, -1);
+                    break;
+                case "iterations":
+                    measurementIterations = parseInteger(value, 0);
+                    break;
+                case "time":
+                    iterationMillis = parseInteger(value, 0);
+                    break;
+                case "players":
+                    iteratorPlayers = parseInteger(value, 1);
+                    break;
+                case "filter":
+                    filter = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown setting \"" + args[i].substring(2) + "\".");
+            }
+        }
+    }
+
+    private static int parseInteger(String value, int above) {
+        if (!InputUtils.isIntegerAndAbove(value, above))
+            throw new IllegalArgumentException("\"" + value + "\" must be an integer above " + above + ".");
+
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Runs every benchmark matching the filter and displays the results.
+     */
+    public void run() {
+        BenchmarkRunner runner = new BenchmarkRunner(warmupIterations, measurementIterations, iterationMillis);
+        Outputable output = IOManager.getInstance().getOutputStream();
+
+        output.writeOutput(String.format("%-32s %32s %14s", "Benchmark", "ops/s", "bytes/op"));
+
+        for (PetTypes petType : PetTypes.values())
+            runBenchmark(runner, "DamageCalculator." + petType, createDamageCalculatorOperation(petType));
+
+        runBenchmark(runner, "RoundController.getInfo", createRoundOperation());
+        runBenchmark(runner, "FightController.start", createFightOperation());
+        runBenchmark(runner, "SeasonIterator(" + iteratorPlayers + ")", createSeasonIteratorOperation());
+        runBenchmark(runner, "SeasonController.start", createSeasonOperation());
+    }
+
+    private void runBenchmark(BenchmarkRunner runner, String name, BenchmarkRunner.Operation operation) {
+        if (!name.contains(filter))
+            return;
+
+        IOManager.getInstance().getOutputStream().writeOutput(runner.run(name, operation).toString());
+    }
+
+    /**
+     * Calculates the damage of every combination of Skill, opponent Skill and
+     * prediction in turn, for a player of the given PetTypes.
+     */
+    private BenchmarkRunner.Operation createDamageCalculatorOperation(PetTypes petType) {
+        DamageCalculator damageCalculator = new DamageCalculator(new Random(SEED));
+        Playable player = createPet("Player", petType, SEED);
+        Playable opponent = createPet("Opponent", PetTypes.POWER, SEED + 1);
+        DamageHistory damageHistory = new DamageHistory(2);
+
+        List<RoundMatchup> matchups = new ArrayList<>();
+        for (Skills skill : Skills.values()) {
+            for (Skills opponentSkill : Skills.values()) {
+                for (Skills prediction : Skills.values()) {
+                    RoundMatchup.Contender playerContender = new RoundMatchup.Contender.ContenderBuilder()
+                            .withPlayable(player).withSlot(0).withSkillChosen(skill).withSkillPrediction(prediction).build();
+                    RoundMatchup.Contender opponentContender = new RoundMatchup.Contender.ContenderBuilder()
+                            .withPlayable(opponent).withSlot(1).withSkillChosen(opponentSkill).build();
+                    matchups.add(new RoundMatchup(playerContender, opponentContender, damageHistory));
+                }
+            }
+        }
+
+        RoundMatchup[] matchupArray = matchups.toArray(new RoundMatchup[0]);
+        int[] next = { 0 };
+        return () -> {
+            RoundMatchup matchup = matchupArray[next[0]];
+            next[0] = (next[0] + 1) % matchupArray.length;
+            return damageCalculator.calculateDamage(matchup);
+        };
+    }
+
+    /**
+     * Plays single Rounds between two AIPets. The Fight is replaced every few hundred
+     * Rounds so its RoundLog does not grow without bound.
+     */
+    private BenchmarkRunner.Operation createRoundOperation() {
+        RoundController roundController = new RoundController(new Random(SEED), new GameEventBus());
+        List<Playable> players = createPets(2);
+        Fight[] fight = { new Fight(players) };
+
+        return () -> {
+            if (fight[0].getRoundLog().getRoundCount() == ROUNDS_PER_FIGHT)
+                fight[0] = new Fight(players);
+
+            return roundController.getInfo(fight[0]);
+        };
+    }
+
+    /**
+     * Plays a full Fight between two AIPets.
+     */
+    private BenchmarkRunner.Operation createFightOperation() {
+        Random rng = new Random();
+        FightController fightController = new FightController(rng, new GameEventBus());
+        List<Playable> players = createPets(2);
+
+        return () -> {
+            reseed(rng, players);
+            return fightController.start(players);
+        };
+    }
+
+    /**
+     * Reads every matchup of every SeasonRound of a large Season without playing any Battles.
+     */
+    private BenchmarkRunner.Operation createSeasonIteratorOperation() {
+        List<Playable> players = createPets(iteratorPlayers);
+
+        return () -> {
+            long slotSum = 0;
+            for (SeasonRound seasonRound : new Season(players)) {
+                for (int m = 0; m < seasonRound.getMatchupCount(); m++)
+                    slotSum += seasonRound.getParticipantSlot(m, 0) + seasonRound.getParticipantSlot(m, 1);
+            }
+
+            return slotSum;
+        };
+    }
+
+    /**
+     * Plays a full Season between several AIPets.
+     */
+    private BenchmarkRunner.Operation createSeasonOperation() {
+        Random rng = new Random();
+        SeasonController seasonController = new SeasonController(rng, new BattleController(rng, FIGHTS_PER_BATTLE, new GameEventBus()));
+        List<Playable> players = createPets(SEASON_PLAYERS);
+
+        return () -> {
+            reseed(rng, players);
+            return seasonController.start(players);
+        };
+    }
+
+    private static void reseed(Random rng, List<Playable> players) {
+        rng.setSeed(SEED);
+        for (int i = 0; i < players.size(); i++)
+            ((AIPet) players.get(i)).setSeed(Utils.deriveSeed(SEED, i + 1));
+    }
+
+    /**
+     * Creates AIPets cycling through every PetTypes.
+     */
+    private static List<Playable> createPets(int count) {
+        List<Playable> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            players.add(createPet("Pet " + (i + 1), PetTypes.values()[i % PetTypes.values().length], Utils.deriveSeed(SEED, i + 1)));
+
+        return players;
+    }
+
+    private static AIPet createPet(String name, PetTypes type, long seed) {
+        AIPet pet = new AIPet.AIPetBuilder()
+                .withPlayer(new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Computer").build())
+                .withName(name)
+                .withType(type)
+                .withStartingHp(STARTING_HP)
+                .build();
+        pet.setSeed(seed);
+        return pet;
+    }
+}
@@ -0,0 +1,272 @@
+package Boundary;
+
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes output through a fixed-size ring buffer that a background thread drains
+ * to a channel in large batches, so callers never wait on the terminal or disk.
+ * A caller only waits when the ring buffer is full, which bounds the memory used
+ * by output that has not been written yet. Everything written is flushed when the
+ * writer is closed. A writer to the Console leaves the process's standard output
+ * open when it is closed.
+ */
+public class AsyncWriter implements Outputable {
+    private static final int DEFAULT_CAPACITY = 1 << 20;
+    private static final int MAX_BATCH = 1 << 16;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private final WritableByteChannel channel;
+    private final boolean closeChannel;
+    private final byte[] ring;
+    private final ByteBuffer batch;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Thread drainer;
+
+    // Total bytes ever written into and drained out of the ring, the ring index is the count modulo capacity
+    private long written;
+    private long drained;
+    // Total bytes the background thread has finished writing to the channel
+    private long flushed;
+    private boolean closed;
+    private IOException failure;
+
+    /**
+     * Constructs a new AsyncWriter that writes to the Console. Closing it flushes the
+     * remaining output but does not close standard output.
+     */
+    public AsyncWriter() {
+        this(Channels.newChannel(new FileOutputStream(FileDescriptor.out)), DEFAULT_CAPACITY, false);
+    }
+
+    /**
+     * Constructs a new AsyncWriter that writes to a file, replacing any existing contents.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be opened.
+     */
+    public AsyncWriter(Path path) throws IOException {
+        this(FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+                DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new AsyncWriter.
+     * @param channel The channel output is drained to. It is closed when this writer is closed.
+     * @param capacity The size of the ring buffer in bytes.
+     */
+    public AsyncWriter(WritableByteChannel channel, int capacity) {
+        this(channel, capacity, true);
+    }
+
+    /**
+     * Constructs a new AsyncWriter.
+     * @param channel The channel output is drained to.
+     * @param capacity The size of the ring buffer in bytes.
+     * @param closeChannel True to close the channel when this writer is closed.
+     */
+    private AsyncWriter(WritableByteChannel channel, int capacity, boolean closeChannel) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The ring buffer capacity must be above 0.");
+
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.ring = new byte[capacity];
+        this.batch = ByteBuffer.allocateDirect(Math.min(capacity, MAX_BATCH));
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+
+        this.drainer = new Thread(this::drain, "AsyncWriter");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * Adds a new line of output to the ring buffer. Waits only while the ring buffer is full.
+     * @param message The text to output.
+     */
+    @Override
+    public void writeOutput(String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+
+        lock.lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("The writer has been closed.");
+
+            // Wait for room for the whole line so lines from different threads never interleave.
+            // Lines longer than the ring buffer are written in pieces as it drains.
+            awaitSpace(Math.min(bytes.length + LINE_SEPARATOR.length, ring.length));
+            append(bytes);
+            append(LINE_SEPARATOR);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits until everything written so far has been drained to the channel.
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            long target = written;
+            while (flushed < target && failure == null)
+                notFull.awaitUninterruptibly();
+
+            throwIfFailed();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes all remaining output, stops the background thread and closes the channel,
+     * unless it is the Console's.
+     * @throws IOException If writing the remaining output or closing the channel failed.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed)
+                return;
+
+            closed = true;
+            notEmpty.signalAll();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        // The remaining output is written even if this thread is interrupted while waiting
+        boolean interrupted = false;
+        while (drainer.isAlive()) {
+            try {
+                drainer.join();
+            }
+            catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        if (closeChannel)
+            channel.close();
+
+        if (failure != null)
+            throw failure;
+    }
+
+    /**
+     * Copies bytes into the ring buffer, waiting for the background thread whenever it is full.
+     * Must be called while holding the lock.
+     */
+    private void append(byte[] bytes) {
+        int offset = 0;
+
+        while (offset < bytes.length) {
+            awaitSpace(1);
+
+            int start = (int) (written % ring.length);
+            int length = (int) Math.min(bytes.length - offset, ring.length - (written - drained));
+            length = Math.min(length, ring.length - start);
+
+            System.arraycopy(bytes, offset, ring, start, length);
+            offset += length;
+            written += length;
+            notEmpty.signal();
+        }
+    }
+
+    /**
+     * Waits until the ring buffer has room for the given number of bytes. Must be called while holding the lock.
+     */
+    private void awaitSpace(int length) {
+        while (ring.length - (written - drained) < length && failure == null)
+            notFull.awaitUninterruptibly();
+
+        throwIfFailed();
+    }
+
+    private void throwIfFailed() {
+        if (failure != null)
+            throw new UncheckedIOException("Unable to write output.", failure);
+    }
+
+    /**
+     * Body of the background thread. Repeatedly moves everything in the ring buffer, up
+     * to one batch, into the batch buffer and writes it to the channel outside the lock.
+     */
+    private void drain() {
+        while (true) {
+            long batchEnd;
+
+            lock.lock();
+            try {
+                while (written == drained && !closed)
+                    notEmpty.awaitUninterruptibly();
+
+                if (written == drained)
+                    return;
+
+                batch.clear();
+                while (drained < written && batch.hasRemaining()) {
+                    int start = (int) (drained % ring.length);
+                    int length = (int) Math.min(written - drained, ring.length - start);
+                    length = Math.min(length, batch.remaining());
+
+                    batch.put(ring, start, length);
+                    drained += length;
+                }
+
+                batchEnd = drained;
+            }
+            finally {
+                lock.unlock();
+            }
+
+            batch.flip();
+            try {
+                while (batch.hasRemaining())
+                    channel.write(batch);
+            }
+            catch (IOException ex) {
+                lock.lock();
+                try {
+                    failure = ex;
+                    notFull.signalAll();
+                }
+                finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                flushed = batchEnd;
+                notFull.signalAll();
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+}
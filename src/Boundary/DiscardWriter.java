@@ -0,0 +1,21 @@
+package Boundary;
+
+/**
+ * Discards all output. Used for bulk runs where nothing should reach the Console.
+ */
+public class DiscardWriter implements Outputable {
+    /**
+     * Ignores a line of output.
+     * @param message The text to discard.
+     */
+    @Override
+    public void writeOutput(String message) {
+    }
+
+    /**
+     * Does nothing, since there is no stream to close.
+     */
+    @Override
+    public void close() {
+    }
+}
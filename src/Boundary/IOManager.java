@@ -1,59 +1,99 @@
-package Boundary;
-
-/**
- * Singleton manager class for all I/O manipulation throughout the program.
- */
-public class IOManager {
-    private static IOManager instance;
-
-    private Inputable inputStream;
-    private Outputable outputStream;
-
-    /**
-     * Constructs a new IOManager.
-     */
-    private IOManager() {
-        this.inputStream = new ConsoleReader();
-        this.outputStream = new ConsoleWriter();
-    }
-
-    /**
-     * Returns the single instance of the IOManager class. Implemented as the
-     * lazy Singleton.
-     * @return
-     */
-    public static IOManager getInstance() {
-        if (instance == null)
-            instance = new IOManager();
-
-        return instance;
-    }
-
-    /**
-     * Closes the Inputable stream.
-     */
-    public void closeInputStream() {
-        try {
-            inputStream.close();
-        }
-        catch (Exception ex) {
-            ex.printStackTrace();
-        }
-    }
-
-    /**
-     * Closes the Outputable stream.
-     */
-    public void closeOutputStream() {
-        try {
-            outputStream.close();
-        }
-        catch (Exception ex) {
-            ex.printStackTrace();
-        }
-    }
-
-    public Inputable getInputStream() { return inputStream; }
-
-    public Outputable getOutputStream() { return outputStream; }
-}
+package Boundary;
+
+/**
+ * Manager class for all I/O manipulation of a game session. The shared instance
+ * reads from and writes to the Console. Each additional session hosted in the same
+ * process gets its own IOManager with its own streams.
+ */
+public class IOManager {
+    private volatile Inputable inputStream;
+    private volatile Outputable outputStream;
+
+    /**
+     * Holds the shared instance, which the JVM creates safely on first use.
+     */
+    private static class InstanceHolder {
+        private static final IOManager INSTANCE = new IOManager();
+    }
+
+    /**
+     * Constructs a new IOManager for the Console.
+     */
+    private IOManager() {
+        this(new ConsoleReader(), new ConsoleWriter());
+    }
+
+    /**
+     * Constructs a new IOManager for a single game session.
+     * @param inputStream The Inputable stream the session reads from.
+     * @param outputStream The Outputable stream the session writes to.
+     */
+    public IOManager(Inputable inputStream, Outputable outputStream) {
+        if (inputStream == null || outputStream == null)
+            throw new IllegalArgumentException("The input and output streams cannot be null.");
+
+        this.inputStream = inputStream;
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Returns the shared Console instance of the IOManager class. Implemented as the
+     * lazy, thread-safe Singleton.
+     * @return
+     */
+    public static IOManager getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Closes the Inputable stream.
+     */
+    public void closeInputStream() {
+        try {
+            inputStream.close();
+        }
+        catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    /**
+     * Closes the Outputable stream.
+     */
+    public void closeOutputStream() {
+        try {
+            outputStream.close();
+        }
+        catch (Exception ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    public Inputable getInputStream() { return inputStream; }
+
+    /**
+     * Replaces the Inputable stream that all input is read from. The previous
+     * stream is not closed.
+     * @param inputStream The new Inputable stream.
+     */
+    public void setInputStream(Inputable inputStream) {
+        if (inputStream == null)
+            throw new IllegalArgumentException("The input stream cannot be null.");
+
+        this.inputStream = inputStream;
+    }
+
+    public Outputable getOutputStream() { return outputStream; }
+
+    /**
+     * Replaces the Outputable stream that all output is written to. The previous
+     * stream is not closed.
+     * @param outputStream The new Outputable stream.
+     */
+    public void setOutputStream(Outputable outputStream) {
+        if (outputStream == null)
+            throw new IllegalArgumentException("The output stream cannot be null.");
+
+        this.outputStream = outputStream;
+    }
+}
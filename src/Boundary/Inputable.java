@@ -1,12 +1,31 @@
-package Boundary;
-
-/**
- * Base interface for all classes that parse input.
- */
-public interface Inputable extends AutoCloseable {
-    /**
-     * Reads some input from a stream.
-     * @return The String of text parsed from a stream.
-     */
-    String readInput();
-}
+package Boundary;
+
+import Control.InputUtils;
+
+/**
+ * Base interface for all classes that parse input.
+ */
+public interface Inputable extends AutoCloseable {
+    /**
+     * Returned by readIntegerInput when the input is not a valid integer.
+     */
+    int INVALID_INTEGER = Integer.MIN_VALUE;
+
+    /**
+     * Reads some input from a stream.
+     * @return The String of text parsed from a stream.
+     */
+    String readInput();
+
+    /**
+     * Reads some input from a stream as an integer within a range (inclusive), such as
+     * a menu choice. Accepts the same text as InputUtils.isIntegerInRange.
+     * @param low The lowest valid integer.
+     * @param high The highest valid integer.
+     * @return The integer, or INVALID_INTEGER if the input is not an integer within the range.
+     */
+    default int readIntegerInput(int low, int high) {
+        String text = readInput();
+        return InputUtils.isIntegerInRange(text, low, high) ? Integer.parseInt(text) : INVALID_INTEGER;
+    }
+}
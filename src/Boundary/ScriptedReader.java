@@ -0,0 +1,143 @@
+package Boundary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads pre-recorded input, one response per line, from a memory-mapped file or
+ * an in-memory buffer. Used to replay sessions and to drive scripted players
+ * without a Console. Lines may end in "\n" or "\r\n", and the last line does not
+ * need a line ending.
+ */
+public class ScriptedReader implements Inputable {
+    private static final int MAX_INTEGER_LENGTH = 9;
+
+    private final ByteBuffer script;
+
+    /**
+     * Constructs a new ScriptedReader that maps the given file into memory.
+     * @param path The file of responses to read.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public ScriptedReader(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Scripts larger than 2 GB are not supported.");
+
+            // The mapping stays valid after the channel is closed
+            this.script = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Constructs a new ScriptedReader over a buffer of responses, from its position to its limit.
+     * @param script The UTF-8 encoded responses to read.
+     */
+    public ScriptedReader(ByteBuffer script) {
+        this.script = script.slice();
+    }
+
+    /**
+     * @return True if there is at least one more response to read, false otherwise.
+     */
+    public boolean hasNextInput() {
+        return script.hasRemaining();
+    }
+
+    /**
+     * Reads the next response.
+     * @return The next line of the script, without its line ending.
+     * @throws NoSuchElementException If every response has been read.
+     */
+    @Override
+    public String readInput() {
+        int start = script.position();
+        int end = findLineEnd(start);
+
+        byte[] bytes = new byte[end - start];
+        script.get(start, bytes);
+        skipLine(end);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the next response as an integer directly from the script bytes,
+     * without creating a String.
+     * @param low The lowest valid integer.
+     * @param high The highest valid integer.
+     * @return The integer, or INVALID_INTEGER if the response is not an integer within the range.
+     * @throws NoSuchElementException If every response has been read.
+     */
+    @Override
+    public int readIntegerInput(int low, int high) {
+        int start = script.position();
+        int end = findLineEnd(start);
+        skipLine(end);
+
+        // Same format as InputUtils.isInteger: an optional '-' followed by digits, at most 9 characters
+        int length = end - start;
+        if (length == 0 || length > MAX_INTEGER_LENGTH)
+            return INVALID_INTEGER;
+
+        boolean negative = script.get(start) == '-';
+        int index = negative ? start + 1 : start;
+        if (index == end)
+            return INVALID_INTEGER;
+
+        int number = 0;
+        for (; index < end; index++) {
+            int digit = script.get(index) - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID_INTEGER;
+
+            number = number * 10 + digit;
+        }
+
+        if (negative)
+            number = -number;
+
+        return number >= low && number <= high ? number : INVALID_INTEGER;
+    }
+
+    /**
+     * Finds the end of the line starting at the given index, excluding any line ending.
+     */
+    private int findLineEnd(int start) {
+        if (start >= script.limit())
+            throw new NoSuchElementException("No line found");
+
+        int end = start;
+        while (end < script.limit() && script.get(end) != '\n')
+            end++;
+
+        if (end > start && script.get(end - 1) == '\r')
+            end--;
+
+        return end;
+    }
+
+    /**
+     * Moves past the line ending at the given index.
+     */
+    private void skipLine(int end) {
+        if (end < script.limit() && script.get(end) == '\r')
+            end++;
+        if (end < script.limit() && script.get(end) == '\n')
+            end++;
+
+        script.position(end);
+    }
+
+    /**
+     * Nothing needs to be closed, the mapping is released once this reader is no longer used.
+     */
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,80 @@
+package Boundary;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Reads input sent by a networked player. The network thread decodes each line
+ * received on the connection and hands it to this reader, and readInput waits for
+ * the next line, so game code reads from a socket exactly as it reads from the Console.
+ */
+public class SocketReader implements Inputable {
+    // Queued after the last line once the connection closes, so waiting readers wake up
+    private static final String END_OF_INPUT = new String("");
+
+    private final LinkedBlockingQueue<String> lines;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new SocketReader with no input.
+     */
+    public SocketReader() {
+        this.lines = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Adds a line received on the connection. Called by the network thread.
+     * @param line The line, without its line ending.
+     */
+    public void offerLine(String line) {
+        lines.add(line);
+    }
+
+    /**
+     * Marks the end of the input once the connection closes. Lines already received can still be read.
+     */
+    public void markClosed() {
+        if (!closed) {
+            closed = true;
+            lines.add(END_OF_INPUT);
+        }
+    }
+
+    /**
+     * @return True once the connection has closed.
+     */
+    public boolean isClosed() { return closed; }
+
+    /**
+     * Waits for the next line sent by the player.
+     * @return The next line, without its line ending.
+     * @throws NoSuchElementException If the connection closed before another line was sent.
+     */
+    @Override
+    public String readInput() {
+        String line;
+        try {
+            line = lines.take();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new NoSuchElementException("Interrupted while waiting for input");
+        }
+
+        if (line == END_OF_INPUT) {
+            // Leave the marker for any later reads
+            lines.add(END_OF_INPUT);
+            throw new NoSuchElementException("The connection was closed");
+        }
+
+        return line;
+    }
+
+    /**
+     * Stops any further reads.
+     */
+    @Override
+    public void close() {
+        markClosed();
+    }
+}
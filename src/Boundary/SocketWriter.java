@@ -0,0 +1,131 @@
+package Boundary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Writes output to a networked player. Lines are encoded and queued by the game
+ * thread, and the network thread sends them once the connection can be written
+ * to, so game code never waits on the socket. A game thread only waits when the
+ * queue is full, which bounds the memory used by output a slow player has not
+ * received yet.
+ */
+public class SocketWriter implements Outputable {
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final BlockingQueue<ByteBuffer> pending;
+    private final Runnable writeRequest;
+    // Set while a write has been requested that the network thread has not finished, so
+    // only the first line queued after each flush asks for a write
+    private final AtomicBoolean writeRequested;
+    private volatile boolean closed;
+    private volatile boolean disconnected;
+
+    /**
+     * Constructs a new SocketWriter that queues up to 1024 lines.
+     * @param writeRequest Called after output is queued, or the writer is closed, to ask the
+     *                     network thread to send the queued output.
+     */
+    public SocketWriter(Runnable writeRequest) {
+        this(writeRequest, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new SocketWriter.
+     * @param writeRequest Called after output is queued, or the writer is closed, to ask the
+     *                     network thread to send the queued output.
+     * @param capacity The maximum number of lines waiting to be sent.
+     */
+    public SocketWriter(Runnable writeRequest, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("The queue capacity must be above 0.");
+
+        this.pending = new LinkedBlockingQueue<>(capacity);
+        this.writeRequest = writeRequest;
+        this.writeRequested = new AtomicBoolean();
+    }
+
+    /**
+     * Queues a new line of output for the player. Waits only while the queue is full.
+     * Output is discarded once the player has disconnected.
+     * @param message The text to output.
+     */
+    @Override
+    public void writeOutput(String message) {
+        if (closed || disconnected)
+            return;
+
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer line = ByteBuffer.allocate(bytes.length + LINE_SEPARATOR.length);
+        line.put(bytes).put(LINE_SEPARATOR).flip();
+
+        // The line is queued even if this thread is interrupted while waiting
+        boolean interrupted = false;
+        while (true) {
+            try {
+                pending.put(line);
+                break;
+            }
+            catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        if (disconnected) {
+            pending.clear();
+            return;
+        }
+
+        if (writeRequested.compareAndSet(false, true))
+            writeRequest.run();
+    }
+
+    /**
+     * @return The output waiting to be sent. Only the network thread removes from this queue.
+     */
+    public Queue<ByteBuffer> getPending() { return pending; }
+
+    /**
+     * Called by the network thread once it has sent all of the queued output, so the next
+     * line queued asks for a write again.
+     * @return True if more output was queued meanwhile, which the network thread should also send.
+     */
+    public boolean finishWrite() {
+        writeRequested.set(false);
+
+        // A line queued before the flag was cleared did not ask for a write
+        return !pending.isEmpty() && writeRequested.compareAndSet(false, true);
+    }
+
+    /**
+     * @return True once the writer is closed, after which the connection is closed when all queued output is sent.
+     */
+    public boolean isClosed() { return closed; }
+
+    /**
+     * Discards all queued output once the connection has closed, releasing any game thread
+     * waiting for room in the queue. Called by the network thread.
+     */
+    public void markDisconnected() {
+        disconnected = true;
+        pending.clear();
+    }
+
+    /**
+     * Closes the connection once all queued output has been sent.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        // Always asks, since a write already requested may have been finished before the writer closed
+        writeRequest.run();
+    }
+}
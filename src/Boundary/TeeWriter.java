@@ -0,0 +1,53 @@
+package Boundary;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes every line of output to several Outputables, in the order they were given.
+ */
+public class TeeWriter implements Outputable {
+    private final List<Outputable> outputs;
+
+    /**
+     * Constructs a new TeeWriter.
+     * @param outputs The Outputables every line is written to.
+     */
+    public TeeWriter(Outputable... outputs) {
+        this.outputs = List.of(outputs);
+    }
+
+    /**
+     * Writes a new line of output to every Outputable.
+     * @param message The text to output.
+     */
+    @Override
+    public void writeOutput(String message) {
+        for (Outputable output : outputs)
+            output.writeOutput(message);
+    }
+
+    /**
+     * Closes every Outputable, even if closing an earlier one fails.
+     * @throws IOException The first failure, with any later failures suppressed.
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+
+        for (Outputable output : outputs) {
+            try {
+                output.close();
+            }
+            catch (Exception ex) {
+                if (failure == null)
+                    failure = ex instanceof IOException io ? io : new IOException("Unable to close output.", ex);
+                else
+                    failure.addSuppressed(ex);
+            }
+        }
+
+        if (failure != null)
+            throw failure;
+    }
+}
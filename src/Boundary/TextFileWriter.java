@@ -0,0 +1,48 @@
+package Boundary;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes output to a text file, one line per message, replacing any existing contents.
+ */
+public class TextFileWriter implements Outputable {
+    private final BufferedWriter writer;
+
+    /**
+     * Constructs a new TextFileWriter.
+     * @param path The file to write to.
+     * @throws IOException If the file cannot be opened.
+     */
+    public TextFileWriter(Path path) throws IOException {
+        this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a new line of output to the file.
+     * @param message The text to output.
+     */
+    @Override
+    public void writeOutput(String message) {
+        try {
+            writer.write(message);
+            writer.newLine();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Unable to write output.", ex);
+        }
+    }
+
+    /**
+     * Flushes any buffered output and closes the file.
+     * @throws IOException If the buffered output cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,125 @@
+package Control;
+
+import Entity.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * The round loop shared by the SeasonController and the ParallelSeasonController. Plays
+ * every SeasonRound of a Season from a given round onwards, publishes the Season's events,
+ * adds results to the Season in matchup order and saves checkpoints after completed
+ * SeasonRounds. Subclasses only decide how the Battles of a SeasonRound are played.
+ */
+abstract class AbstractSeasonController {
+    protected Season season;
+    protected final GameEventBus eventBus;
+    private Path checkpointPath;
+    private int checkpointInterval;
+
+    /**
+     * @param eventBus The bus Season events are published to.
+     */
+    AbstractSeasonController(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    /**
+     * Saves a checkpoint of the Season after every given number of completed SeasonRounds,
+     * and after the last one.
+     * @param checkpointPath The file to write checkpoints to.
+     * @param checkpointInterval The number of SeasonRounds between checkpoints.
+     */
+    public void enableCheckpoints(Path checkpointPath, int checkpointInterval) {
+        if (checkpointInterval < 1)
+            throw new IllegalArgumentException("Checkpoints must be at least 1 round apart.");
+
+        this.checkpointPath = checkpointPath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * @return The file checkpoints are written to, or null if checkpoints have not been enabled.
+     */
+    protected Path getCheckpointPath() { return checkpointPath; }
+
+    /**
+     * Plays every SeasonRound of the Season from the given round onwards.
+     * @param firstRound The number of the first round to play, starting at 1.
+     * @return The finished Season.
+     */
+    protected Season play(int firstRound) {
+        int roundNumber = firstRound;
+
+        for (Iterator<SeasonRound> rounds = season.iterator(firstRound); rounds.hasNext(); roundNumber++) {
+            SeasonRound sr = rounds.next();
+            if (eventBus.hasSinks())
+                eventBus.publish(new GameEvent.SeasonRoundStarted(season, roundNumber));
+
+            playRound(sr);
+
+            if (checkpointPath != null && (roundNumber % checkpointInterval == 0 || !rounds.hasNext()))
+                writeCheckpoint(roundNumber);
+        }
+
+        if (eventBus.hasSinks())
+            eventBus.publish(new GameEvent.SeasonEnded(season));
+
+        return season;
+    }
+
+    /**
+     * Plays every matchup of a SeasonRound. Each matchup, byes included, increments the
+     * Season's Battle number in matchup order, and its result is passed to recordBattle or
+     * recordBye in matchup order.
+     * @param sr The SeasonRound to play.
+     */
+    protected abstract void playRound(SeasonRound sr);
+
+    /**
+     * @return The state of the random number generator saved with checkpoints, or SeasonCheckpoint.NO_STATE.
+     */
+    protected abstract long getRngState();
+
+    /**
+     * Adds a finished Battle to the Season and credits its winner.
+     * @param sr The SeasonRound of the Battle.
+     * @param matchup The index of the Battle's matchup in the SeasonRound.
+     * @param battle The finished Battle.
+     */
+    protected void recordBattle(SeasonRound sr, int matchup, Battle battle) {
+        season.getBattleList().add(battle);
+
+        if (eventBus.hasSinks())
+            eventBus.publish(new GameEvent.SeasonBattleEnded(battle, matchup + 1));
+        season.incrementWins(sr.getParticipantSlot(matchup, battle.getWinnerIndex()));
+    }
+
+    /**
+     * Announces the player sitting out a matchup of the SeasonRound.
+     * @param sr The SeasonRound of the bye.
+     * @param matchup The index of the bye's matchup in the SeasonRound.
+     */
+    protected void recordBye(SeasonRound sr, int matchup) {
+        if (!eventBus.hasSinks())
+            return;
+
+        int side = sr.getParticipantSlot(matchup, 0) != RoundRobinSchedule.DUMMY_SLOT ? 0 : 1;
+        eventBus.publish(new GameEvent.SeasonBye(season.getPlayers().get(sr.getParticipantSlot(matchup, side)), matchup + 1));
+    }
+
+    /**
+     * Saves the Season's progress after a completed SeasonRound.
+     * @param roundsCompleted The number of SeasonRounds played.
+     */
+    private void writeCheckpoint(int roundsCompleted) {
+        try {
+            SeasonCheckpoint.capture(season, roundsCompleted, getRngState()).write(checkpointPath);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Unable to write checkpoint \"" + checkpointPath + "\".", ex);
+        }
+    }
+}
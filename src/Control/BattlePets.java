@@ -1,123 +1,189 @@
-package Control;
-
-import Boundary.IOManager;
-import Entity.*;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Random;
-
-/**
- * Primary driver class for the BattlePets program.
- */
-public class BattlePets {
-    private static final int OPTION_NEW_BATTLE = 1;
-    private static final int OPTION_NEW_SEASON = 2;
-    private static final int OPTION_QUIT = 3;
-    private static final String TITLE =
-            "=====================================================\n" +
-            "    ____        __  __  __        ____       __      \n" +
-            "   / __ )____ _/ /_/ /_/ /__     / __ \\___  / /______\n" +
-            "  / __  / __ `/ __/ __/ / _ \\   / /_/ / _ \\/ __/ ___/\n" +
-            " / /_/ / /_/ / /_/ /_/ /  __/  / ____/  __/ /_(__  ) \n" +
-            "/_____/\\__,_/\\__/\\__/_/\\___/  /_/    \\___/\\__/____/\n" +
-            "=====================================================";
-
-    private BattleController battleController;
-    private IOManager ioManager;
-
-    public static void main(String[] args) {
-        // Initialize
-        BattlePets game = new BattlePets();
-        game.ioManager = IOManager.getInstance();
-
-        // Main Menu
-        int response = game.doMainMenu();
-
-        switch (response) {
-            case OPTION_NEW_BATTLE:
-            case OPTION_NEW_SEASON:
-                game.startGame(game, response);
-                break;
-            case OPTION_QUIT:
-                System.exit(0);
-                break;
-        }
-    }
-
-    /**
-     * Displays the main menu and waits for the player's selection.
-     * @return An integer representing any of the valid menu options.
-     */
-    private int doMainMenu() {
-        System.out.println(TITLE);
-        System.out.println("-=MAIN MENU=-\n" +
-                "1) New Battle\n" +
-                "2) New Season\n" +
-                "3) Quit");
-
-        String optionResponse = ioManager.getInputStream().readInput();
-        while (!InputUtils.isIntegerInRange(optionResponse, OPTION_NEW_BATTLE, OPTION_QUIT)) {
-            System.out.println("Input must be an integer between " + OPTION_NEW_BATTLE + " and " + OPTION_QUIT + ".");
-            optionResponse = ioManager.getInputStream().readInput();
-        }
-
-        return Integer.parseInt(optionResponse);
-    }
-
-    /**
-     * Allows the user to replay the game, or to break out of the main gameplay loop.
-     * @return True if the user wishes to play again, false otherwise.
-     */
-    private boolean replay() {
-        // Prompt the user if they want to play again
-        ioManager.getOutputStream().writeOutput("Would you like to play again? [Y/N]: ");
-        String replayResponse = ioManager.getInputStream().readInput();
-
-        // Keep asking for input, so long as their response is invalid
-        while (!InputUtils.isCharacters(replayResponse, 'Y', 'N')) {
-            System.out.println("Please enter a valid response [Y/N]:");
-            replayResponse = ioManager.getInputStream().readInput();
-        }
-
-        return replayResponse.toUpperCase().charAt(0) == 'Y';
-    }
-
-    /**
-     * Begins a new game of BattlePets. Players initialize their game settings,
-     * players, and pets before starting their battle.
-     * @param game The instance of a BattlePets game to run.
-     * @param gameType The type of game the player wishes to use:
-     *                 1 = Battle
-     *                 2 = Season
-     */
-    private void startGame(BattlePets game, int gameType) {
-        // Initialize game settings
-        GameSettings gameSettings = GameInitializer.initializeGame();
-        int playerCount = gameSettings.getPlayerCount();
-
-        // Initialize contenders
-        Playable[] playables = new Playable[playerCount];
-        for (int i = 0; i < playerCount; i++) {
-            game.ioManager.getOutputStream().writeOutput("Currently setting up Player " + (i + 1) + "...");
-
-            Player p = GameInitializer.initializePlayer();
-            if (p.getType() == PlayerTypes.HUMAN)
-                playables[i] = GameInitializer.initializePet(p);
-            else
-                playables[i] = GameInitializer.initializeAIPet(p);
-        }
-
-        // Start the game
-        do {
-            game.battleController = new BattleController(new Random(gameSettings.getSeed()), gameSettings.getFightsPerBattle());
-            if (gameType == 1)
-                game.battleController.start(Utils.arrayToList(playables));
-            else {
-                SeasonController seasonController = new SeasonController(new Random(gameSettings.getSeed()), game.battleController);
-                seasonController.start(Utils.arrayToList(playables));
-            }
-        } while (replay());
-    }
+package Control;
+
+import Boundary.IOManager;
+import Boundary.Inputable;
+import Boundary.ScriptedReader;
+import Entity.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Primary driver class for the BattlePets program. Run with "--input &lt;path&gt;" to read
+ * every response from a script file, one per line, instead of the Console, and with
+ * "--skill-selection legacy" to have AIPets choose Skills the way they did before masked
+ * selection, so games from older seeds can be replayed.
+ */
+public class BattlePets {
+    private static final int OPTION_NEW_BATTLE = 1;
+    private static final int OPTION_NEW_SEASON = 2;
+    private static final int OPTION_QUIT = 3;
+    private static final String SKILLS_MASKED = "masked";
+    private static final String SKILLS_LEGACY = "legacy";
+    private static final String TITLE =
+            "=====================================================\n" +
+            "    ____        __  __  __        ____       __      \n" +
+            "   / __ )____ _/ /_/ /_/ /__     / __ \\___  / /______\n" +
+            "  / __  / __ `/ __/ __/ / _ \\   / /_/ / _ \\/ __/ ___/\n" +
+            " / /_/ / /_/ / /_/ /_/ /  __/  / ____/  __/ /_(__  ) \n" +
+            "/_____/\\__,_/\\__/\\__/_/\\___/  /_/    \\___/\\__/____/\n" +
+            "=====================================================";
+
+    private BattleController battleController;
+    private final IOManager ioManager;
+    private final GameInitializer gameInitializer;
+
+    /**
+     * Constructs a new game of BattlePets that runs in the given game session.
+     * @param ioManager The IOManager of the session, which every prompt and all display use.
+     */
+    public BattlePets(IOManager ioManager) {
+        this(ioManager, false);
+    }
+
+    /**
+     * Constructs a new game of BattlePets that runs in the given game session.
+     * @param ioManager The IOManager of the session, which every prompt and all display use.
+     * @param legacySkillSelection True to have AIPets retry uniform draws until a Skill is available,
+     *                             which reproduces games played before masked selection.
+     */
+    public BattlePets(IOManager ioManager, boolean legacySkillSelection) {
+        this.ioManager = ioManager;
+        this.gameInitializer = new GameInitializer(ioManager);
+        this.gameInitializer.setLegacySkillSelection(legacySkillSelection);
+    }
+
+    public static void main(String[] args) {
+        // Initialize
+        IOManager ioManager = IOManager.getInstance();
+
+        boolean legacySkillSelection = false;
+        for (int i = 0; i < args.length; i += 2) {
+            if (i + 1 == args.length) {
+                ioManager.getOutputStream().writeOutput("Missing a value for \"" + args[i] + "\".");
+                return;
+            }
+
+            switch (args[i]) {
+                case "--input":
+                    try {
+                        ioManager.setInputStream(new ScriptedReader(Paths.get(args[i + 1])));
+                    }
+                    catch (IOException ex) {
+                        ioManager.getOutputStream().writeOutput("Unable to read input script \"" + args[i + 1] + "\".");
+                        return;
+                    }
+                    break;
+                case "--skill-selection":
+                    if (!args[i + 1].equals(SKILLS_MASKED) && !args[i + 1].equals(SKILLS_LEGACY)) {
+                        ioManager.getOutputStream().writeOutput("Skill selection must be \"" + SKILLS_MASKED + "\" or \"" + SKILLS_LEGACY + "\".");
+                        return;
+                    }
+                    legacySkillSelection = args[i + 1].equals(SKILLS_LEGACY);
+                    break;
+                default:
+                    ioManager.getOutputStream().writeOutput("Unknown argument \"" + args[i] + "\".");
+                    return;
+            }
+        }
+
+        new BattlePets(ioManager, legacySkillSelection).play();
+    }
+
+    /**
+     * Shows the main menu and plays the chosen game until the player stops replaying it.
+     * Returns when the player quits.
+     */
+    public void play() {
+        // Main Menu
+        int response = doMainMenu();
+
+        switch (response) {
+            case OPTION_NEW_BATTLE:
+            case OPTION_NEW_SEASON:
+                startGame(response);
+                break;
+            case OPTION_QUIT:
+                break;
+        }
+    }
+
+    /**
+     * Displays the main menu and waits for the player's selection.
+     * @return An integer representing any of the valid menu options.
+     */
+    private int doMainMenu() {
+        ioManager.getOutputStream().writeOutput(TITLE);
+        ioManager.getOutputStream().writeOutput("-=MAIN MENU=-\n" +
+                "1) New Battle\n" +
+                "2) New Season\n" +
+                "3) Quit");
+
+        int optionResponse = ioManager.getInputStream().readIntegerInput(OPTION_NEW_BATTLE, OPTION_QUIT);
+        while (optionResponse == Inputable.INVALID_INTEGER) {
+            ioManager.getOutputStream().writeOutput("Input must be an integer between " + OPTION_NEW_BATTLE + " and " + OPTION_QUIT + ".");
+            optionResponse = ioManager.getInputStream().readIntegerInput(OPTION_NEW_BATTLE, OPTION_QUIT);
+        }
+
+        return optionResponse;
+    }
+
+    /**
+     * Allows the user to replay the game, or to break out of the main gameplay loop.
+     * @return True if the user wishes to play again, false otherwise.
+     */
+    private boolean replay() {
+        // Prompt the user if they want to play again
+        ioManager.getOutputStream().writeOutput("Would you like to play again? [Y/N]: ");
+        String replayResponse = ioManager.getInputStream().readInput();
+
+        // Keep asking for input, so long as their response is invalid
+        while (!InputUtils.isCharacters(replayResponse, 'Y', 'N')) {
+            ioManager.getOutputStream().writeOutput("Please enter a valid response [Y/N]:");
+            replayResponse = ioManager.getInputStream().readInput();
+        }
+
+        return replayResponse.toUpperCase().charAt(0) == 'Y';
+    }
+
+    /**
+     * Begins a new game of BattlePets. Players initialize their game settings,
+     * players, and pets before starting their battle.
+     * @param gameType The type of game the player wishes to use:
+     *                 1 = Battle
+     *                 2 = Season
+     */
+    private void startGame(int gameType) {
+        // Initialize game settings
+        GameSettings gameSettings = gameInitializer.initializeGame();
+        int playerCount = gameSettings.getPlayerCount();
+
+        // Initialize contenders
+        Playable[] playables = new Playable[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            ioManager.getOutputStream().writeOutput("Currently setting up Player " + (i + 1) + "...");
+
+            Player p = gameInitializer.initializePlayer();
+            if (p.getType() == PlayerTypes.HUMAN)
+                playables[i] = gameInitializer.initializePet(p);
+            else
+                playables[i] = gameInitializer.initializeAIPet(p);
+        }
+
+        // Start the game
+        do {
+            battleController = new BattleController(new Random(gameSettings.getSeed()), gameSettings.getFightsPerBattle(),
+                    GameEventBus.createDisplayBus(ioManager));
+            if (gameType == 1)
+                battleController.start(Utils.arrayToList(playables));
+            else {
+                SeasonController seasonController = new SeasonController(new Random(gameSettings.getSeed()), battleController);
+                seasonController.start(Utils.arrayToList(playables));
+            }
+        } while (replay());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,190 @@
+package Control;
+
+import Entity.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Controls the game loop for a single or double elimination Bracket. Each level of
+ * the Bracket pairs neighbouring players of the winners' bracket and of the losers'
+ * bracket, and every Battle of the level runs in parallel on the ForkJoinPool, since
+ * no pet plays twice in a level. An odd player out of either bracket gets a bye.
+ *
+ * A player who loses drops into the losers' bracket until they reach the Bracket's
+ * maximum number of losses, and is then eliminated. Once each bracket has a single
+ * player left they meet in the final, and a loss there sends the winners' bracket
+ * champion to a deciding rematch. Finished Battles are counted and discarded, and
+ * only the slots of players still in the Bracket are kept between levels.
+ *
+ * As in the ParallelSeasonController, each Battle and its AIPets are seeded from the
+ * game seed and the Battle's number, so results do not depend on the number of threads.
+ */
+public class BracketController {
+    private Bracket bracket;
+    private final BracketTypes type;
+    private final ForkJoinPool pool;
+    private final GameEventBus eventBus;
+    private final GameEventBus battleEventBus;
+    private final int seed;
+    private final int fightsPerBattle;
+    private int battleNumber;
+
+    /**
+     * Constructs a new BracketController that runs on the common ForkJoinPool.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param type Whether players are eliminated after one or two losses.
+     */
+    public BracketController(GameSettings gameSettings, BracketTypes type) {
+        this(gameSettings, type, ForkJoinPool.commonPool(), GameEventBus.createDisplayBus());
+    }
+
+    /**
+     * Constructs a new BracketController. Only Bracket levels and results are
+     * published to the bus, since the Battles of a level run concurrently.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param type Whether players are eliminated after one or two losses.
+     * @param pool The pool used to run the Battles of each level.
+     * @param eventBus The bus Bracket events are published to.
+     */
+    public BracketController(GameSettings gameSettings, BracketTypes type, ForkJoinPool pool, GameEventBus eventBus) {
+        this.type = type;
+        this.pool = pool;
+        this.eventBus = eventBus;
+        this.battleEventBus = new GameEventBus();
+        this.seed = gameSettings.getSeed();
+        this.fightsPerBattle = gameSettings.getFightsPerBattle();
+    }
+
+    /**
+     * Returns the bus that every Battle of the Bracket publishes its own events to, with no
+     * sinks to begin with. Sinks subscribed to it must be thread-safe.
+     * @return The bus of the Bracket's Battles.
+     */
+    public GameEventBus getBattleEventBus() { return battleEventBus; }
+
+    /**
+     * Plays the Bracket until a single player is left.
+     * @param playables The list of players active in this Bracket. All of them must be AIPets.
+     * @return The finished Bracket.
+     */
+    public Bracket start(List<Playable> playables) {
+        for (Playable playable : playables) {
+            if (!(playable instanceof AIPet))
+                throw new IllegalArgumentException("Brackets can only be played by computer players.");
+        }
+
+        bracket = new Bracket(playables, type);
+        battleNumber = 0;
+
+        int[] winners = new int[playables.size()];
+        for (int i = 0; i < winners.length; i++)
+            winners[i] = i;
+        int[] losers = new int[0];
+
+        while (winners.length + losers.length > 1) {
+            int level = bracket.nextLevel();
+            if (eventBus.hasSinks())
+                eventBus.publish(new GameEvent.BracketLevelStarted(bracket, level));
+
+            int[][] nextBrackets = playLevel(winners, losers);
+            winners = nextBrackets[0];
+            losers = nextBrackets[1];
+        }
+
+        if (winners.length + losers.length == 1)
+            bracket.setChampionSlot(winners.length == 1 ? winners[0] : losers[0]);
+
+        if (eventBus.hasSinks())
+            eventBus.publish(new GameEvent.BracketEnded(bracket));
+
+        return bracket;
+    }
+
+    /**
+     * Plays every Battle of a level in parallel and moves each player to the bracket they
+     * belong in for the next level.
+     * @param winners The slots of the players in the winners' bracket.
+     * @param losers The slots of the players in the losers' bracket.
+     * @return The slots of the winners' bracket and of the losers' bracket for the next level.
+     */
+    private int[][] playLevel(int[] winners, int[] losers) {
+        List<int[]> pairs = new ArrayList<>();
+        List<Boolean> winnersPairs = new ArrayList<>();
+
+        if (winners.length == 1 && losers.length == 1) {
+            pairs.add(new int[] { winners[0], losers[0] });
+            winnersPairs.add(true);
+        }
+        else {
+            addPairs(winners, true, pairs, winnersPairs);
+            addPairs(losers, false, pairs, winnersPairs);
+        }
+
+        // Submit every Battle before joining any of them, numbering them in pairing order
+        List<Playable> players = bracket.getPlayers();
+        List<ForkJoinTask<Battle>> battleTasks = new ArrayList<>(pairs.size());
+        for (int[] pair : pairs) {
+            if (pair.length == 2) {
+                List<Playable> matchup = Arrays.asList(players.get(pair[0]), players.get(pair[1]));
+                battleTasks.add(pool.submit(ParallelSeasonController.createBattleTask(matchup, Utils.deriveSeed(seed, ++battleNumber), fightsPerBattle, battleEventBus)));
+            }
+            else {
+                battleTasks.add(null);
+            }
+        }
+
+        // Players dropping from the winners' bracket join after the losers' bracket survivors
+        int[] nextWinners = new int[winners.length];
+        int[] survivors = new int[winners.length + losers.length];
+        int[] dropped = new int[winners.length + losers.length];
+        int winnerCount = 0;
+        int survivorCount = 0;
+        int droppedCount = 0;
+
+        for (int i = 0; i < pairs.size(); i++) {
+            int[] pair = pairs.get(i);
+            ForkJoinTask<Battle> battleTask = battleTasks.get(i);
+            int advancing = pair[0];
+
+            if (battleTask != null) {
+                Battle battle = battleTask.join();
+                advancing = pair[battle.getWinnerIndex()];
+                int loser = pair[1 - battle.getWinnerIndex()];
+                bracket.recordBattle(battle, loser);
+
+                if (eventBus.hasSinks())
+                    eventBus.publish(new GameEvent.SeasonBattleEnded(battle, i + 1));
+
+                if (!bracket.isEliminated(loser))
+                    dropped[droppedCount++] = loser;
+            }
+            else if (eventBus.hasSinks()) {
+                eventBus.publish(new GameEvent.SeasonBye(players.get(advancing), i + 1));
+            }
+
+            if (winnersPairs.get(i) && bracket.getLosses(advancing) == 0)
+                nextWinners[winnerCount++] = advancing;
+            else
+                survivors[survivorCount++] = advancing;
+        }
+
+        int[] nextLosers = Arrays.copyOf(survivors, survivorCount + droppedCount);
+        System.arraycopy(dropped, 0, nextLosers, survivorCount, droppedCount);
+
+        return new int[][] { Arrays.copyOf(nextWinners, winnerCount), nextLosers };
+    }
+
+    /**
+     * Pairs neighbouring players of a bracket, with a bye for an odd player out.
+     */
+    private void addPairs(int[] slots, boolean winnersBracket, List<int[]> pairs, List<Boolean> winnersPairs) {
+        for (int i = 0; i < slots.length; i += 2) {
+            pairs.add(i + 1 < slots.length ? new int[] { slots[i], slots[i + 1] } : new int[] { slots[i] });
+            winnersPairs.add(winnersBracket);
+        }
+    }
+}
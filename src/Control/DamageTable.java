@@ -0,0 +1,145 @@
+package Control;
+
+import Entity.PetTypes;
+import Entity.Skills;
+
+/**
+ * Precomputed conditional damage for every combination of attacker PetTypes, chosen
+ * Skill, opponent Skill and opponent state, so damage can be calculated with a single
+ * table lookup and no allocation. The table is filled once by running the Skill and
+ * PetType DamageCalculators over every combination.
+ *
+ * The opponent state depends on the attack:
+ *   Shoot the Moon: the Skill the attacker predicted
+ *   Intelligence:   the mask of the opponent's recharging Skills
+ *   Speed:          the band the opponent's HP percent falls in
+ *   Power:          unused
+ *
+ * Each entry stores a flat damage and a multiplier of the random damage, so that the
+ * conditional damage is flat + multiplier * randomDamage. Reversal of Fortune depends
+ * on the Fight's running damage totals and is passed in by the caller.
+ */
+public final class DamageTable {
+    private static final Skills[] SKILLS = Skills.values();
+    private static final PetTypes[] PET_TYPES = PetTypes.values();
+    private static final int SKILL_COUNT = SKILLS.length;
+    private static final int STATE_COUNT = 1 << SKILL_COUNT;
+    private static final int NO_PREDICTION = SKILL_COUNT;
+
+    // Representative HP percent of each band used by the SpeedDamageCalculator
+    private static final double[] HP_BANDS = { 0, SpeedDamageCalculator.LOWER_THRESHOLD, SpeedDamageCalculator.UPPER_THRESHOLD, -1 };
+
+    private static final double[] FLAT_DAMAGE = new double[PET_TYPES.length * SKILL_COUNT * SKILL_COUNT * STATE_COUNT];
+    private static final double[] RANDOM_DAMAGE_MULTIPLIER = new double[FLAT_DAMAGE.length];
+
+    static {
+        for (PetTypes petType : PET_TYPES) {
+            for (Skills skill : SKILLS) {
+                for (Skills opponentSkill : SKILLS) {
+                    for (int state = 0; state < STATE_COUNT; state++)
+                        fillEntry(petType, skill, opponentSkill, state);
+                }
+            }
+        }
+    }
+
+    private DamageTable() {
+    }
+
+    /**
+     * Calculates the conditional damage of an attack.
+     * @param petType The attacker's PetTypes.
+     * @param skill The Skill the attacker chose.
+     * @param opponentSkill The Skill the opponent chose.
+     * @param skillPrediction The attacker's prediction for Shoot the Moon, or null.
+     * @param opponentRechargingSkills The mask of the opponent's Skills that are recharging.
+     * @param opponentHpPercent The opponent's current percent of HP.
+     * @param randomDamage The random damage of the attack.
+     * @param reversalOfFortuneDamage The damage a Reversal of Fortune would deal this round.
+     * @return The conditional damage dealt by the attacker.
+     */
+    public static double calculateConditionalDamage(PetTypes petType, Skills skill, Skills opponentSkill, Skills skillPrediction,
+                                                    int opponentRechargingSkills, double opponentHpPercent,
+                                                    double randomDamage, double reversalOfFortuneDamage) {
+        int state;
+        switch (skill) {
+            case REVERSAL_OF_FORTUNE:
+                return reversalOfFortuneDamage;
+            case SHOOT_THE_MOON:
+                state = skillPrediction == null ? NO_PREDICTION : skillPrediction.ordinal();
+                break;
+            default:
+                state = getState(petType, opponentRechargingSkills, opponentHpPercent);
+        }
+
+        int index = getIndex(petType, skill, opponentSkill, state);
+        return FLAT_DAMAGE[index] + RANDOM_DAMAGE_MULTIPLIER[index] * randomDamage;
+    }
+
+    /**
+     * Determines the opponent state used by a basic attack of the given PetTypes.
+     */
+    private static int getState(PetTypes petType, int opponentRechargingSkills, double opponentHpPercent) {
+        switch (petType) {
+            case INTELLIGENCE:
+                return opponentRechargingSkills & (STATE_COUNT - 1);
+            case SPEED:
+                if (opponentHpPercent >= 0 && opponentHpPercent < SpeedDamageCalculator.LOWER_THRESHOLD)
+                    return 0;
+                if (opponentHpPercent >= SpeedDamageCalculator.LOWER_THRESHOLD && opponentHpPercent < SpeedDamageCalculator.UPPER_THRESHOLD)
+                    return 1;
+                if (opponentHpPercent >= SpeedDamageCalculator.UPPER_THRESHOLD)
+                    return 2;
+                return 3;
+            default:
+                return 0;
+        }
+    }
+
+    private static int getIndex(PetTypes petType, Skills skill, Skills opponentSkill, int state) {
+        return ((petType.ordinal() * SKILL_COUNT + skill.ordinal()) * SKILL_COUNT + opponentSkill.ordinal()) * STATE_COUNT + state;
+    }
+
+    /**
+     * Fills a single table entry by running the matching DamageCalculator.
+     */
+    private static void fillEntry(PetTypes petType, Skills skill, Skills opponentSkill, int state) {
+        int index = getIndex(petType, skill, opponentSkill, state);
+
+        if (skill == Skills.REVERSAL_OF_FORTUNE)
+            return;
+
+        if (skill == Skills.SHOOT_THE_MOON) {
+            Skills prediction = state < SKILL_COUNT ? SKILLS[state] : null;
+            FLAT_DAMAGE[index] = new ShootTheMoonDamageCalculator(prediction, opponentSkill).calculateDamage();
+            return;
+        }
+
+        switch (petType) {
+            case INTELLIGENCE:
+                FLAT_DAMAGE[index] = calculateBasicDamage(new IntelligenceDamageCalculator(state, null, null), skill);
+                break;
+            case SPEED:
+                if (state < HP_BANDS.length)
+                    FLAT_DAMAGE[index] = calculateBasicDamage(new SpeedDamageCalculator(HP_BANDS[state], opponentSkill, null, null), skill);
+                break;
+            case POWER:
+                // Power damage scales with the random damage, so store the damage dealt per point of it
+                RANDOM_DAMAGE_MULTIPLIER[index] = calculateBasicDamage(new PowerDamageCalculator(1, opponentSkill, null, null), skill);
+                break;
+        }
+    }
+
+    private static double calculateBasicDamage(TypeDamageCalculator calculator, Skills skill) {
+        switch (skill) {
+            case PAPER_CUT:
+                return calculator.calculatePaperCutDamage();
+            case ROCK_THROW:
+                return calculator.calculateRockThrowDamage();
+            case SCISSORS_POKE:
+                return calculator.calculateScissorPokeDamage();
+        }
+
+        return 0;
+    }
+}
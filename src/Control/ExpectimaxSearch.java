@@ -0,0 +1,320 @@
+package Control;
+
+import Entity.*;
+
+/**
+ * Chooses Skills for a pet by expectimax search over the coming Rounds of a Fight against a
+ * single opponent. The pet's own choices are maximized, while the opponent is expected to pick
+ * uniformly among its Skills that are not recharging, as AIPets do, and to predict uniformly
+ * among all Skills when it uses Shoot the Moon. Each random damage draw is replaced by two
+ * equally likely values, and damage is calculated with the same DamageTable as the Fights.
+ *
+ * Positions are hashed from the bucketed HP of both pets, their recharge times and the running
+ * Reversal of Fortune balance into a bounded TranspositionTable that is kept across moves and
+ * Fights. Each move is searched with iterative deepening, one Round deeper at a time, until the
+ * maximum depth or the move's time budget is reached. Without a time budget the search always
+ * reaches the maximum depth, so the same position always gets the same Skill.
+ */
+public class ExpectimaxSearch {
+    public static final int MAX_DEPTH = 127;
+
+    private static final Skills[] SKILLS = Skills.values();
+    private static final int SKILL_COUNT = SKILLS.length;
+    private static final int ALL_SKILLS = (1 << SKILL_COUNT) - 1;
+    private static final int SHOOT_THE_MOON = Skills.SHOOT_THE_MOON.ordinal();
+    private static final int REVERSAL_OF_FORTUNE = Skills.REVERSAL_OF_FORTUNE.ordinal();
+
+    // Actions below SKILL_COUNT use that Skill, the others use Shoot the Moon predicting Skill action - SKILL_COUNT
+    private static final int ACTION_COUNT = 2 * SKILL_COUNT;
+    private static final int NO_ACTION = -1;
+
+    // Random damage is uniform, so each draw is replaced by the middle of the lower and upper half of its range
+    private static final double[] RANDOM_DAMAGES = { DamageCalculator.MAX_BASE_DAMAGE * 0.25, DamageCalculator.MAX_BASE_DAMAGE * 0.75 };
+    private static final double OUTCOME_WEIGHT = 1.0 / (RANDOM_DAMAGES.length * RANDOM_DAMAGES.length);
+
+    private static final double WIN = 1;
+    private static final double LOSS = -1;
+    private static final int HP_BUCKETS = 128;
+    private static final int TIME_CHECK_INTERVAL = 64;
+
+    private final TranspositionTable table;
+    private final int maxDepth;
+    private final long moveBudgetNanos;
+
+    // The pets of the Fight being searched
+    private PetTypes petType;
+    private PetTypes opponentType;
+    private double startingHp;
+    private double opponentStartingHp;
+    private long fightKey;
+
+    private long deadline;
+    private int nodeCount;
+    private boolean outOfTime;
+    private int completedDepth;
+    private int bestAction;
+    private Skills skillPrediction;
+
+    /**
+     * Constructs a new ExpectimaxSearch.
+     * @param tableCapacity The maximum number of positions kept in the TranspositionTable.
+     * @param maxDepth The maximum number of Rounds searched ahead, between 1 and MAX_DEPTH.
+     * @param moveBudgetNanos The time allowed for each move in nanoseconds, or 0 to always search to the maximum depth.
+     */
+    public ExpectimaxSearch(int tableCapacity, int maxDepth, long moveBudgetNanos) {
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH)
+            throw new IllegalArgumentException("The search depth must be between 1 and " + MAX_DEPTH + ".");
+        if (moveBudgetNanos < 0)
+            throw new IllegalArgumentException("The time budget of a move cannot be negative.");
+
+        this.table = new TranspositionTable(tableCapacity);
+        this.maxDepth = maxDepth;
+        this.moveBudgetNanos = moveBudgetNanos;
+    }
+
+    /**
+     * Searches for the best Skill of the player against the opponent it attacks this Round.
+     * @param player The player choosing a Skill.
+     * @param opponent The player's opponent.
+     * @param randomDamageDealt The total random damage the player has dealt in previous Rounds.
+     * @param randomDamageTaken The total random damage the player has taken in previous Rounds.
+     * @return The chosen Skill, which is never recharging.
+     */
+    public Skills chooseSkill(Playable player, Playable opponent, double randomDamageDealt, double randomDamageTaken) {
+        petType = player.getPetType();
+        opponentType = opponent.getPetType();
+        startingHp = player.getStartingHp();
+        opponentStartingHp = opponent.getStartingHp();
+        fightKey = Utils.deriveSeed(Utils.deriveSeed(petType.ordinal() * PetTypes.values().length + opponentType.ordinal(),
+                Double.doubleToLongBits(startingHp)), Double.doubleToLongBits(opponentStartingHp));
+
+        double hp = player.getCurrentHp();
+        double opponentHp = opponent.getCurrentHp();
+        long rechargeTimes = getRechargeTimes(player);
+        long opponentRechargeTimes = getRechargeTimes(opponent);
+        double balance = ReversalOfFortuneDamageCalculator.calculateDamage(randomDamageDealt, randomDamageTaken);
+
+        table.nextGeneration();
+        deadline = System.nanoTime() + moveBudgetNanos;
+        nodeCount = 0;
+        outOfTime = false;
+        completedDepth = 0;
+
+        int chosenAction = NO_ACTION;
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            double value = searchActions(hp, opponentHp, rechargeTimes, opponentRechargeTimes, balance, depth);
+            if (outOfTime)
+                break;
+
+            chosenAction = bestAction;
+            completedDepth = depth;
+
+            // Deeper searches cannot change a certain result
+            if (chosenAction == NO_ACTION || value == WIN || value == LOSS)
+                break;
+        }
+
+        if (chosenAction == NO_ACTION)
+            throw new IllegalStateException("Every skill of " + player.getPetName() + " is recharging");
+
+        skillPrediction = chosenAction >= SKILL_COUNT ? SKILLS[chosenAction - SKILL_COUNT] : null;
+        return SKILLS[getSkill(chosenAction)];
+    }
+
+    /**
+     * @return The prediction to go with the last Skill chosen, or null if it was not Shoot the Moon.
+     */
+    public Skills getSkillPrediction() { return skillPrediction; }
+
+    /**
+     * @return The number of Rounds the last move was searched ahead.
+     */
+    public int getCompletedDepth() { return completedDepth; }
+
+    /**
+     * @return The table of searched positions.
+     */
+    public TranspositionTable getTable() { return table; }
+
+    /**
+     * Searches every action of the player to the given depth, and leaves the best of them, or
+     * NO_ACTION if every Skill is recharging, in bestAction.
+     * @return The expected value of the best action.
+     */
+    private double searchActions(double hp, double opponentHp, long rechargeTimes, long opponentRechargeTimes,
+                                 double balance, int depth) {
+        int recharging = RechargeTimes.getRechargingSkills(rechargeTimes);
+        int best = NO_ACTION;
+        double bestValue = Double.NEGATIVE_INFINITY;
+
+        for (int action = 0; action < ACTION_COUNT; action++) {
+            if (action == SHOOT_THE_MOON || (recharging & (1 << getSkill(action))) != 0)
+                continue;
+
+            double value = searchAction(action, hp, opponentHp, rechargeTimes, opponentRechargeTimes, balance, depth);
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+
+        bestAction = best;
+        return bestValue;
+    }
+
+    /**
+     * @return The expected value of the position with the given number of Rounds left to search,
+     * from the player's point of view.
+     */
+    private double searchPosition(double hp, double opponentHp, long rechargeTimes, long opponentRechargeTimes,
+                                  double balance, int depth) {
+        if (depth == 0)
+            return evaluate(hp, opponentHp);
+
+        // The first iteration always finishes, so there is a move to fall back on
+        if (++nodeCount % TIME_CHECK_INTERVAL == 0 && moveBudgetNanos > 0 && completedDepth > 0 && System.nanoTime() > deadline)
+            outOfTime = true;
+        if (outOfTime)
+            return 0;
+
+        long key = hash(hp, opponentHp, rechargeTimes, opponentRechargeTimes, balance);
+        int entry = table.probe(key);
+        if (entry != TranspositionTable.NOT_FOUND && table.getDepth(entry) >= depth)
+            return table.getValue(entry);
+
+        double value = searchActions(hp, opponentHp, rechargeTimes, opponentRechargeTimes, balance, depth);
+        if (outOfTime)
+            return 0;
+        if (bestAction == NO_ACTION)
+            return evaluate(hp, opponentHp);
+
+        table.store(key, depth, value, bestAction);
+        return value;
+    }
+
+    /**
+     * @return The expected value of the player taking the action, averaged over the opponent's
+     * Skills and both players' random damage.
+     */
+    private double searchAction(int action, double hp, double opponentHp, long rechargeTimes, long opponentRechargeTimes,
+                                double balance, int depth) {
+        int skill = getSkill(action);
+        Skills prediction = action >= SKILL_COUNT ? SKILLS[action - SKILL_COUNT] : null;
+        int recharging = RechargeTimes.getRechargingSkills(rechargeTimes);
+        int opponentRecharging = RechargeTimes.getRechargingSkills(opponentRechargeTimes);
+        int opponentSkills = ~opponentRecharging & ALL_SKILLS;
+        double hpPercent = hp / startingHp;
+        double opponentHpPercent = opponentHp / opponentStartingHp;
+
+        long nextRechargeTimes = RechargeTimes.set(RechargeTimes.decrementAll(rechargeTimes), SKILLS[skill], RechargeTimes.getMaximum(SKILLS[skill]));
+        long decrementedOpponentRechargeTimes = RechargeTimes.decrementAll(opponentRechargeTimes);
+        double total = 0;
+
+        for (int remaining = opponentSkills; remaining != 0; remaining &= remaining - 1) {
+            int opponentSkill = Integer.numberOfTrailingZeros(remaining);
+            long nextOpponentRechargeTimes = RechargeTimes.set(decrementedOpponentRechargeTimes, SKILLS[opponentSkill], RechargeTimes.getMaximum(SKILLS[opponentSkill]));
+
+            for (double randomDamage : RANDOM_DAMAGES) {
+                double conditionalDamage = DamageTable.calculateConditionalDamage(petType, SKILLS[skill], SKILLS[opponentSkill],
+                        prediction, opponentRecharging, opponentHpPercent, randomDamage, balance);
+                double randomDamageDealt = skill == REVERSAL_OF_FORTUNE ? randomDamage + conditionalDamage : randomDamage;
+
+                for (double opponentRandomDamage : RANDOM_DAMAGES) {
+                    double opponentConditionalDamage = calculateOpponentConditionalDamage(opponentSkill, skill, recharging,
+                            hpPercent, opponentRandomDamage, -balance);
+                    double randomDamageTaken = opponentSkill == REVERSAL_OF_FORTUNE ? opponentRandomDamage + opponentConditionalDamage : opponentRandomDamage;
+
+                    double nextHp = hp - randomDamageTaken - opponentConditionalDamage;
+                    double nextOpponentHp = opponentHp - randomDamageDealt - conditionalDamage;
+                    double nextBalance = balance + randomDamageTaken - randomDamageDealt;
+
+                    if (nextHp <= 0 || nextOpponentHp <= 0)
+                        total += evaluateFinished(nextHp, nextOpponentHp);
+                    else
+                        total += searchPosition(nextHp, nextOpponentHp, nextRechargeTimes, nextOpponentRechargeTimes, nextBalance, depth - 1);
+                }
+            }
+        }
+
+        return total * OUTCOME_WEIGHT / Integer.bitCount(opponentSkills);
+    }
+
+    /**
+     * Calculates the conditional damage the opponent deals, averaged over every prediction
+     * when the opponent uses Shoot the Moon.
+     */
+    private double calculateOpponentConditionalDamage(int opponentSkill, int skill, int recharging, double hpPercent,
+                                                      double opponentRandomDamage, double opponentBalance) {
+        if (opponentSkill != SHOOT_THE_MOON)
+            return DamageTable.calculateConditionalDamage(opponentType, SKILLS[opponentSkill], SKILLS[skill], null,
+                    recharging, hpPercent, opponentRandomDamage, opponentBalance);
+
+        double total = 0;
+        for (Skills prediction : SKILLS)
+            total += DamageTable.calculateConditionalDamage(opponentType, Skills.SHOOT_THE_MOON, SKILLS[skill], prediction,
+                    recharging, hpPercent, opponentRandomDamage, opponentBalance);
+
+        return total / SKILL_COUNT;
+    }
+
+    /**
+     * Estimates a position at the search horizon from the difference in HP, scaled to stay
+     * between a loss and a win.
+     */
+    private double evaluate(double hp, double opponentHp) {
+        return Math.max(LOSS, Math.min(WIN, (hp - opponentHp) / (startingHp + opponentStartingHp)));
+    }
+
+    /**
+     * Scores a Fight that ended this Round. When both pets fall asleep, the one with more HP wins.
+     */
+    private static double evaluateFinished(double hp, double opponentHp) {
+        if (hp > opponentHp)
+            return WIN;
+        if (hp < opponentHp)
+            return LOSS;
+
+        return 0;
+    }
+
+    /**
+     * Hashes a position of the current Fight from the HP of both pets in buckets of 1/128 of
+     * their starting HP, the recharge time of every Skill and the rounded Reversal of Fortune balance.
+     */
+    private long hash(double hp, double opponentHp, long rechargeTimes, long opponentRechargeTimes, double balance) {
+        long position = getHpBucket(hp, startingHp);
+        position = position << 8 | getHpBucket(opponentHp, opponentStartingHp);
+        position = position << 15 | compressRechargeTimes(rechargeTimes);
+        position = position << 15 | compressRechargeTimes(opponentRechargeTimes);
+        position = position << 8 | (Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, Math.round(balance))) & 0xFF);
+
+        return Utils.deriveSeed(fightKey, position);
+    }
+
+    private static long getHpBucket(double hp, double startingHp) {
+        return Math.max(0, Math.min(255, (int) (hp / startingHp * HP_BUCKETS)));
+    }
+
+    /**
+     * Packs the recharge times into 3 bits per Skill. No Skill recharges for longer than 7 Rounds.
+     */
+    private static long compressRechargeTimes(long rechargeTimes) {
+        long compressed = 0;
+        for (int i = 0; i < SKILL_COUNT; i++)
+            compressed |= Math.min(7, (rechargeTimes >>> (i * 8)) & 0xFF) << (i * 3);
+
+        return compressed;
+    }
+
+    private static long getRechargeTimes(Playable playable) {
+        long rechargeTimes = RechargeTimes.NONE;
+        for (Skills skill : SKILLS)
+            rechargeTimes = RechargeTimes.set(rechargeTimes, skill, playable.getSkillRechargeTime(skill));
+
+        return rechargeTimes;
+    }
+
+    private static int getSkill(int action) {
+        return action < SKILL_COUNT ? action : SHOOT_THE_MOON;
+    }
+}
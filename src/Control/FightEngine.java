@@ -0,0 +1,19 @@
+package Control;
+
+import Entity.Fight;
+import Entity.Playable;
+
+import java.util.List;
+
+/**
+ * Base interface for all classes that run a Fight from its first Round until at
+ * most one pet is awake.
+ */
+public interface FightEngine {
+    /**
+     * Runs a full Fight between the given players.
+     * @param playables The players in the Fight.
+     * @return The finished Fight.
+     */
+    Fight start(List<Playable> playables);
+}
@@ -0,0 +1,171 @@
+package Control;
+
+import Entity.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs Fights between AIPets over a FightState, keeping HP, pet types and recharge
+ * times in primitive arrays instead of going through each Playable. Follows the
+ * same round loop as the FightController and draws the same random numbers in the
+ * same order, so both engines produce the same Fight for the same seeds.
+ *
+ * This engine publishes no per-round events.
+ */
+public class FightStateController implements FightEngine {
+    private static final Skills[] SKILLS = Skills.values();
+
+    private final DamageCalculator damageCalculator;
+
+    /**
+     * Constructs a new FightStateController.
+     * @param rng The random number generator used to determine the base damage.
+     */
+    public FightStateController(Random rng) {
+        this.damageCalculator = new DamageCalculator(rng);
+    }
+
+    /**
+     * Runs a full Fight between AIPets. The pets' HP and recharge times are updated to
+     * their final values once the Fight is over.
+     * @param playables The players in the Fight. All of them must be AIPets.
+     * @return The finished Fight.
+     */
+    @Override
+    public Fight start(List<Playable> playables) {
+        AIPet[] pets = new AIPet[playables.size()];
+        for (int i = 0; i < pets.length; i++) {
+            if (!(playables.get(i) instanceof AIPet))
+                throw new IllegalArgumentException("The array fight engine can only be used by computer players.");
+            pets[i] = (AIPet) playables.get(i);
+        }
+
+        Fight fight = new Fight(playables);
+        FightState state = new FightState(pets);
+
+        Skills[] skillsChosen = new Skills[pets.length];
+        Skills[] skillPredictions = new Skills[pets.length];
+        double[] randomDamages = new double[pets.length];
+        double[] conditionalDamages = new double[pets.length];
+
+        while (state.countAwake() >= 2) {
+            fight.setRoundNumber(fight.getRoundNumber() + 1);
+            int activeCount = state.updateActivePlayers();
+
+            chooseSkills(state, pets, skillsChosen, skillPredictions);
+            calculateDamages(state, skillsChosen, skillPredictions, randomDamages, conditionalDamages);
+            recordRound(fight.getRoundLog(), state, skillsChosen, randomDamages, conditionalDamages);
+
+            for (int i = 0; i < activeCount; i++) {
+                int player = state.getActivePlayer(i);
+                state.recordRandomDamage(player, state.getActivePlayer((i + 1) % activeCount), randomDamages[i]);
+
+                // Same order as the FightController: decrement, then start the chosen Skill recharging
+                state.decrementRechargeTimes(player);
+                state.setRechargeTime(player, skillsChosen[i], RechargeTimes.getMaximum(skillsChosen[i]));
+            }
+
+            for (int i = 0; i < activeCount; i++)
+                state.updateHp(state.getActivePlayer((i + 1) % activeCount), randomDamages[i] + conditionalDamages[i]);
+        }
+
+        fight.setActiveSlots(createActiveSlots(state));
+        fight.setWinningPlayer(decideWinner(state));
+        writeBack(state, pets);
+
+        return fight;
+    }
+
+    /**
+     * Asks every awake AIPet for one of its Skills that is not recharging, and for a
+     * prediction when the Skill is Shoot the Moon.
+     */
+    private void chooseSkills(FightState state, AIPet[] pets, Skills[] skillsChosen, Skills[] skillPredictions) {
+        for (int i = 0; i < state.getActivePlayerCount(); i++) {
+            int player = state.getActivePlayer(i);
+
+            Skills skill = pets[player].chooseAvailableSkill(state.getRechargingSkills(player));
+            skillsChosen[i] = skill;
+            skillPredictions[i] = skill == Skills.SHOOT_THE_MOON ? pets[player].getSkillPrediction() : null;
+        }
+    }
+
+    /**
+     * Calculates the random and conditional damage every awake player deals to the next
+     * awake player.
+     */
+    private void calculateDamages(FightState state, Skills[] skillsChosen, Skills[] skillPredictions,
+                                  double[] randomDamages, double[] conditionalDamages) {
+        int activeCount = state.getActivePlayerCount();
+
+        for (int i = 0; i < activeCount; i++) {
+            int next = (i + 1) % activeCount;
+            int player = state.getActivePlayer(i);
+
+            int opponent = state.getActivePlayer(next);
+
+            double randomDamage = damageCalculator.calculateRandomDamage();
+            double reversalOfFortuneDamage = ReversalOfFortuneDamageCalculator.calculateDamage(
+                    state.getRandomDamageDealt(player), state.getRandomDamageTaken(player));
+            double conditionalDamage = DamageTable.calculateConditionalDamage(state.getPetType(player),
+                    skillsChosen[i], skillsChosen[next], skillPredictions[i], state.getRechargingSkills(opponent),
+                    state.calculateHpPercent(opponent), randomDamage, reversalOfFortuneDamage);
+
+            // Add extra conditional damage to random damage if Reversal of Fortune was used
+            if (skillsChosen[i] == Skills.REVERSAL_OF_FORTUNE)
+                randomDamage += conditionalDamage;
+
+            randomDamages[i] = randomDamage;
+            conditionalDamages[i] = conditionalDamage;
+        }
+    }
+
+    /**
+     * Records the Skills and damages of the current round in the Fight's RoundLog.
+     */
+    private void recordRound(RoundLog roundLog, FightState state, Skills[] skillsChosen,
+                             double[] randomDamages, double[] conditionalDamages) {
+        int round = roundLog.addRound().getRoundIndex();
+        for (int i = 0; i < state.getActivePlayerCount(); i++) {
+            int player = state.getActivePlayer(i);
+            roundLog.setSkillChosen(round, player, skillsChosen[i]);
+            roundLog.setDamage(round, player, randomDamages[i], conditionalDamages[i]);
+        }
+    }
+
+    /**
+     * Finds the player with the most HP among those awake at the start of the last round.
+     * @return The index of the winning player.
+     */
+    private int decideWinner(FightState state) {
+        int winner = state.getActivePlayer(0);
+
+        for (int i = 1; i < state.getActivePlayerCount(); i++) {
+            int player = state.getActivePlayer(i);
+            if (state.getCurrentHp(player) > state.getCurrentHp(winner))
+                winner = player;
+        }
+
+        return winner;
+    }
+
+    private int[] createActiveSlots(FightState state) {
+        int[] activeSlots = new int[state.getActivePlayerCount()];
+        for (int i = 0; i < activeSlots.length; i++)
+            activeSlots[i] = state.getActivePlayer(i);
+
+        return activeSlots;
+    }
+
+    /**
+     * Copies the final HP and recharge times back into the AIPets.
+     */
+    private void writeBack(FightState state, AIPet[] pets) {
+        for (int i = 0; i < pets.length; i++) {
+            pets[i].setCurrentHp(state.getCurrentHp(i));
+            for (Skills skill : SKILLS)
+                pets[i].setRechargeTime(skill, state.getRechargeTime(i, skill));
+        }
+    }
+}
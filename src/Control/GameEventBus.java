@@ -0,0 +1,73 @@
+package Control;
+
+import Boundary.IOManager;
+import Entity.GameEvent;
+import Entity.GameEventSink;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Delivers GameEvents to every registered GameEventSink, in registration order, on
+ * the thread that publishes them. Publishers check hasSinks() before creating an
+ * event, so a bus without sinks costs a single field read per event.
+ */
+public class GameEventBus {
+    private final CopyOnWriteArrayList<GameEventSink> sinks;
+    private volatile boolean hasSinks;
+
+    /**
+     * Constructs a new GameEventBus.
+     * @param sinks The sinks to register.
+     */
+    public GameEventBus(GameEventSink... sinks) {
+        this.sinks = new CopyOnWriteArrayList<>(sinks);
+        this.hasSinks = sinks.length > 0;
+    }
+
+    /**
+     * @return A new GameEventBus that displays every event as text on the shared Console IOManager.
+     */
+    public static GameEventBus createDisplayBus() {
+        return new GameEventBus(new TextEventSink());
+    }
+
+    /**
+     * @param ioManager The IOManager of the game session to display on.
+     * @return A new GameEventBus that displays every event as text on the session's output stream.
+     */
+    public static GameEventBus createDisplayBus(IOManager ioManager) {
+        return new GameEventBus(new TextEventSink(ioManager));
+    }
+
+    /**
+     * Registers a sink to receive every event published after this call.
+     * @param sink The sink to register.
+     */
+    public void subscribe(GameEventSink sink) {
+        sinks.add(sink);
+        hasSinks = true;
+    }
+
+    /**
+     * Stops a sink from receiving events.
+     * @param sink The sink to remove.
+     */
+    public void unsubscribe(GameEventSink sink) {
+        sinks.remove(sink);
+        hasSinks = !sinks.isEmpty();
+    }
+
+    /**
+     * @return True if any sink is registered, false if published events would be discarded.
+     */
+    public boolean hasSinks() { return hasSinks; }
+
+    /**
+     * Delivers an event to every registered sink.
+     * @param event The event to deliver.
+     */
+    public void publish(GameEvent event) {
+        for (GameEventSink sink : sinks)
+            event.dispatch(sink);
+    }
+}
@@ -0,0 +1,469 @@
+package Control;
+
+import Boundary.*;
+import Entity.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts Battles between networked human players on localhost. A single thread runs
+ * a Selector that accepts every connection and does all of the socket reads and
+ * writes. Each connection sets up one Pet, whose Skill choices are read from that
+ * connection, and once enough pets are waiting they are matched into a Battle.
+ *
+ * The game itself waits for each player's answer, so pet setup and Battles run as
+ * tasks on an executor and wait on their connection's queued input rather than on
+ * the socket. The protocol is plain text, one UTF-8 line per prompt or answer.
+ * Problems with the server itself are reported on the shared IOManager.
+ *
+ * Arguments:
+ *   --port &lt;int&gt;     The port to listen on, 0 picks a free port (default 7777)
+ *   --players &lt;int&gt;  The number of players per Battle (default 2)
+ *   --fights &lt;int&gt;   The number of Fights per Battle (default 1)
+ *   --seed &lt;int&gt;     The game seed, each Battle's seed is derived from it (default 0)
+ */
+public class GameServer implements AutoCloseable {
+    private static final int DEFAULT_PORT = 7777;
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int ACCEPT_BACKLOG = 1024;
+    private static final int WRITE_BATCH_SIZE = 64;
+    private static final Inputable NO_INPUT = new ScriptedReader(ByteBuffer.allocate(0));
+
+    private final GameSettings gameSettings;
+    private final ExecutorService executor;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Queue<Connection> writeRequests;
+    private final List<Pet> lobby;
+    private final Map<Pet, Connection> lobbyConnections;
+    private final AtomicInteger connectionCount;
+    private final Thread networkThread;
+    private final ByteBuffer[] writeBatch;
+    private int matchCount;
+    private volatile boolean running;
+    private volatile IOException failure;
+
+    /**
+     * A single player's connection.
+     */
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SocketReader reader;
+        private final SocketWriter writer;
+        private final ByteArrayOutputStream partialLine;
+        private final ByteBuffer readBuffer;
+        private SelectionKey key;
+        // The player's pet once it has joined the lobby, guarded by the lobby
+        private Pet pet;
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.reader = new SocketReader();
+            this.writer = new SocketWriter(() -> requestWrite(this));
+            this.partialLine = new ByteArrayOutputStream();
+            this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * Constructs a new GameServer listening on localhost. Call start() to begin accepting players.
+     * @param port The port to listen on, or 0 for any free port.
+     * @param gameSettings The settings providing the players per Battle, the Fights per Battle and the game seed.
+     * @param executor The executor that pet setup and Battles run on. It is shut down when the server is closed.
+     * @throws IOException If the port cannot be opened.
+     */
+    public GameServer(int port, GameSettings gameSettings, ExecutorService executor) throws IOException {
+        if (gameSettings.getPlayerCount() < 2)
+            throw new IllegalArgumentException("A Battle needs at least 2 players.");
+
+        this.gameSettings = gameSettings;
+        this.executor = executor;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), ACCEPT_BACKLOG);
+        this.serverChannel.configureBlocking(false);
+        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.writeRequests = new ConcurrentLinkedQueue<>();
+        this.lobby = new ArrayList<>();
+        this.lobbyConnections = new HashMap<>();
+        this.connectionCount = new AtomicInteger();
+        this.networkThread = new Thread(this::runSelector, "GameServer");
+        this.writeBatch = new ByteBuffer[WRITE_BATCH_SIZE];
+        this.matchCount = 0;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = DEFAULT_PORT;
+        GameSettings.GameSettingsBuilder gameSettingsBuilder = new GameSettings.GameSettingsBuilder()
+                .withPlayerCount(2).withFightsPerBattle(1);
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--players":
+                    gameSettingsBuilder.withPlayerCount(Integer.parseInt(args[i + 1]));
+                    break;
+                case "--fights":
+                    gameSettingsBuilder.withFightsPerBattle(Integer.parseInt(args[i + 1]));
+                    break;
+                case "--seed":
+                    gameSettingsBuilder.withSeed(Integer.parseInt(args[i + 1]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown setting \"" + args[i] + "\".");
+            }
+        }
+
+        GameServer server = new GameServer(port, gameSettingsBuilder.build(), Executors.newCachedThreadPool());
+        server.start();
+        IOManager.getInstance().getOutputStream().writeOutput("BattlePets server listening on port " + server.getPort());
+    }
+
+    /**
+     * Starts accepting players.
+     */
+    public void start() {
+        running = true;
+        networkThread.start();
+    }
+
+    /**
+     * @return The port the server is listening on.
+     */
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * @return The number of players that have connected since the server started.
+     */
+    public int getConnectionCount() { return connectionCount.get(); }
+
+    /**
+     * @return The number of pets waiting in the lobby for enough opponents.
+     */
+    public int getWaitingCount() {
+        synchronized (lobby) {
+            return lobby.size();
+        }
+    }
+
+    /**
+     * Stops accepting players, closes every connection and shuts down the executor. Battles
+     * still running end once they next read from a closed connection.
+     * @throws IOException If the network thread failed, or the selector cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+
+        if (networkThread.getState() == Thread.State.NEW) {
+            closeChannels();
+        }
+        else {
+            selector.wakeup();
+
+            // The connections are closed even if this thread is interrupted while waiting
+            boolean interrupted = false;
+            while (networkThread.isAlive()) {
+                try {
+                    networkThread.join();
+                }
+                catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+
+        executor.shutdown();
+
+        if (failure != null)
+            throw failure;
+    }
+
+    /**
+     * Body of the network thread. Accepts connections, reads lines into each connection's
+     * SocketReader and sends each SocketWriter's queued output.
+     */
+    private void runSelector() {
+        try {
+            while (running) {
+                selector.select();
+
+                Connection connection;
+                while ((connection = writeRequests.poll()) != null) {
+                    if (connection.key.isValid())
+                        connection.key.interestOps(connection.key.interestOps() | SelectionKey.OP_WRITE);
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if (!key.isValid())
+                        continue;
+
+                    try {
+                        if (key.isAcceptable())
+                            accept();
+                        if (key.isValid() && key.isReadable())
+                            read((Connection) key.attachment());
+                        if (key.isValid() && key.isWritable())
+                            write((Connection) key.attachment());
+                    }
+                    catch (IOException ex) {
+                        if (key.attachment() != null)
+                            disconnect((Connection) key.attachment());
+                    }
+                }
+            }
+        }
+        catch (IOException ex) {
+            failure = ex;
+            report("The server stopped: " + ex.getMessage());
+        }
+        finally {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() != null)
+                    disconnect((Connection) key.attachment());
+            }
+
+            closeChannels();
+        }
+    }
+
+    /**
+     * Stops listening and closes the selector, keeping the first failure for close().
+     */
+    private void closeChannels() {
+        try {
+            serverChannel.close();
+            selector.close();
+        }
+        catch (IOException ex) {
+            if (failure == null)
+                failure = ex;
+            else
+                failure.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Accepts every pending connection and starts setting up each player's pet.
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+
+            int playerNumber = connectionCount.incrementAndGet();
+            executor.submit(() -> setUpPet(connection, playerNumber));
+        }
+    }
+
+    /**
+     * Splits the bytes received on a connection into lines, ignoring any '\r' before a '\n'.
+     */
+    private void read(Connection connection) throws IOException {
+        ByteBuffer buffer = connection.readBuffer;
+        buffer.clear();
+        int count = connection.channel.read(buffer);
+
+        if (count < 0) {
+            disconnect(connection);
+            return;
+        }
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                byte[] line = connection.partialLine.toByteArray();
+                int length = line.length > 0 && line[line.length - 1] == '\r' ? line.length - 1 : line.length;
+                connection.reader.offerLine(new String(line, 0, length, StandardCharsets.UTF_8));
+                connection.partialLine.reset();
+            }
+            else {
+                connection.partialLine.write(b);
+            }
+        }
+    }
+
+    /**
+     * Sends as much queued output as the connection accepts, and closes it once a closed writer has nothing left.
+     */
+    private void write(Connection connection) throws IOException {
+        Queue<ByteBuffer> pending = connection.writer.getPending();
+
+        // Only this thread removes lines, so the head of the queue is stable while gathering
+        do {
+            while (!pending.isEmpty()) {
+                int count = 0;
+                for (ByteBuffer line : pending) {
+                    if (count == WRITE_BATCH_SIZE)
+                        break;
+                    writeBatch[count++] = line;
+                }
+
+                connection.channel.write(writeBatch, 0, count);
+
+                for (int i = 0; i < count; i++) {
+                    if (writeBatch[i].hasRemaining()) {
+                        Arrays.fill(writeBatch, null);
+                        return;
+                    }
+
+                    pending.poll();
+                }
+                Arrays.fill(writeBatch, 0, count, null);
+            }
+        } while (connection.writer.finishWrite());
+
+        if (connection.writer.isClosed())
+            disconnect(connection);
+        else
+            connection.key.interestOps(SelectionKey.OP_READ);
+    }
+
+    /**
+     * Asks the network thread to send a connection's queued output. Called from game threads,
+     * once per flush of the connection's output and when its writer closes.
+     */
+    private void requestWrite(Connection connection) {
+        writeRequests.add(connection);
+        selector.wakeup();
+    }
+
+    /**
+     * Closes a connection, ends its input, discards its output and removes its pet from the lobby.
+     */
+    private void disconnect(Connection connection) {
+        connection.key.cancel();
+        connection.reader.markClosed();
+        connection.writer.markDisconnected();
+
+        synchronized (lobby) {
+            if (connection.pet != null && lobbyConnections.remove(connection.pet, connection))
+                lobby.remove(connection.pet);
+        }
+
+        try {
+            connection.channel.close();
+        }
+        catch (IOException ex) {
+            report("Unable to close a player's connection: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Displays a problem with the server on the shared IOManager.
+     */
+    private static void report(String message) {
+        IOManager.getInstance().getOutputStream().writeOutput(message);
+    }
+
+    /**
+     * Asks a newly connected player to set up their pet, then adds the pet to the lobby.
+     */
+    private void setUpPet(Connection connection, int playerNumber) {
+        IOManager session = new IOManager(connection.reader, connection.writer);
+
+        try {
+            session.getOutputStream().writeOutput("Welcome to Battle Pets! You are Player " + playerNumber + ".");
+            Player player = new Player.PlayerBuilder().withType(PlayerTypes.HUMAN).withName("Player " + playerNumber).build();
+            Pet pet = new GameInitializer(session).initializePet(player);
+
+            session.getOutputStream().writeOutput("Waiting for opponents...");
+            joinLobby(pet, connection);
+        }
+        catch (NoSuchElementException ex) {
+            connection.writer.close();
+        }
+    }
+
+    /**
+     * Adds a pet to the lobby, and starts a Battle once enough pets are waiting. A pet whose
+     * player has already disconnected is left out.
+     */
+    private void joinLobby(Pet pet, Connection connection) {
+        List<Pet> pets = null;
+        List<Connection> connections = null;
+        int matchNumber = 0;
+
+        synchronized (lobby) {
+            // disconnect marks the reader closed before removing the connection's pet
+            if (connection.reader.isClosed())
+                return;
+
+            connection.pet = pet;
+            lobby.add(pet);
+            lobbyConnections.put(pet, connection);
+
+            if (lobby.size() == gameSettings.getPlayerCount()) {
+                pets = new ArrayList<>(lobby);
+                connections = new ArrayList<>();
+                for (Pet waiting : lobby)
+                    connections.add(lobbyConnections.remove(waiting));
+
+                lobby.clear();
+                matchNumber = ++matchCount;
+            }
+        }
+
+        if (pets != null) {
+            List<Pet> matchPets = pets;
+            List<Connection> matchConnections = connections;
+            long matchSeed = Utils.deriveSeed(gameSettings.getSeed(), matchNumber);
+            executor.submit(() -> runMatch(matchPets, matchConnections, matchSeed));
+        }
+    }
+
+    /**
+     * Plays a Battle between networked pets. Every player sees the whole Battle, and each pet's
+     * Skill choices are read from its own connection.
+     */
+    private void runMatch(List<Pet> pets, List<Connection> connections, long matchSeed) {
+        Outputable[] outputs = new Outputable[connections.size()];
+        for (int i = 0; i < outputs.length; i++)
+            outputs[i] = connections.get(i).writer;
+
+        TeeWriter everyone = new TeeWriter(outputs);
+
+        // The match session only displays, each Pet reads from its own connection
+        IOManager matchSession = new IOManager(NO_INPUT, everyone);
+        BattleController battleController = new BattleController(new Random(matchSeed), gameSettings.getFightsPerBattle(),
+                GameEventBus.createDisplayBus(matchSession));
+
+        try {
+            battleController.start(new ArrayList<>(pets));
+            everyone.writeOutput("Thanks for playing!");
+        }
+        catch (NoSuchElementException ex) {
+            everyone.writeOutput("A player disconnected, so the Battle has ended.");
+        }
+        finally {
+            for (Connection connection : connections)
+                connection.writer.close();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package Control;
+
+import Boundary.IOManager;
+import Boundary.Inputable;
+import Boundary.Outputable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Hosts many games of BattlePets in one process. Every session gets its own
+ * IOManager, so sessions share no I/O state and can run at the same time on
+ * any executor, including one that starts a virtual thread per task.
+ */
+public class GameSessionHost {
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new GameSessionHost.
+     * @param executor The executor every session runs on, one task per session.
+     */
+    public GameSessionHost(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a new game session. The session's streams are closed once the game ends.
+     * @param inputStream The Inputable stream the session's players answer on.
+     * @param outputStream The Outputable stream the session displays on.
+     * @return A Future that completes when the game ends.
+     */
+    public Future<?> host(Inputable inputStream, Outputable outputStream) {
+        IOManager session = new IOManager(inputStream, outputStream);
+
+        return executor.submit(() -> {
+            try {
+                new BattlePets(session).play();
+            }
+            finally {
+                session.closeInputStream();
+                session.closeOutputStream();
+            }
+        });
+    }
+}
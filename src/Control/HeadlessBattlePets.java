@@ -0,0 +1,504 @@
+package Control;
+
+import Boundary.*;
+import Entity.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Non-interactive driver for BattlePets. Runs Battles, Seasons, Swiss tournaments or Brackets between AIPets
+ * configured from command line arguments or a settings file, with no event sinks
+ * registered so no display text is built, and reports the fight throughput once
+ * every run has finished.
+ *
+ * Arguments (a settings file uses the same keys, one "key=value" pair per line):
+ *   --file &lt;path&gt;                     Reads settings from the given file
+ *   --mode battle|season|swiss|single|double
+ *                                     The type of game to run, single and double are elimination
+ *                                     Brackets (default battle)
+ *   --seed &lt;int&gt;                      The game seed (default 0)
+ *   --fights &lt;int&gt;                    The number of Fights per Battle (default 1)
+ *   --runs &lt;int&gt;                      The number of times to repeat the game (default 1)
+ *   --threads &lt;int&gt;                   Runs Season and Bracket Battles in parallel on this many threads,
+ *                                     0 uses the common pool (default: Season Battles run sequentially,
+ *                                     Brackets use the common pool)
+ *   --pet &lt;name&gt;:&lt;type&gt;:&lt;hp&gt;:&lt;seed&gt;  Adds an AIPet to the roster, type is POWER, SPEED or INTELLIGENCE
+ *   --expectimax-pet &lt;name&gt;:&lt;type&gt;:&lt;hp&gt;:&lt;ms&gt;[:&lt;depth&gt;]
+ *                                     Adds an ExpectimaxPet to the roster that searches each move for up to
+ *                                     the given number of milliseconds, or always to the maximum depth for 0,
+ *                                     and at most the given number of Rounds ahead (default 8, or 3 for a
+ *                                     budget of 0, since every Round searched ahead multiplies the work).
+ *                                     Only Battles of two pets, Seasons played without --threads and Swiss
+ *                                     tournaments can be played by ExpectimaxPets
+ *   --skill-selection masked|legacy   How AIPets choose Skills, masked draws once from the available Skills,
+ *                                     legacy retries uniform draws to reproduce older games (default masked)
+ *   --checkpoint &lt;path&gt;               Saves Season progress to the file after completed rounds, and resumes
+ *                                     from it if it already exists. Needs season mode and a single run
+ *   --checkpoint-every &lt;int&gt;          The number of Season rounds between checkpoints (default 1)
+ *   --ratings &lt;path&gt;                  Loads pet ratings from the file if it exists, rates every Battle played
+ *                                     and saves the ratings back to the file once every run has finished
+ *   --output &lt;target&gt;                 Sends all output to "console", "async" (the Console, written from a
+ *                                     background thread), "discard" or a file path. Repeat to send output
+ *                                     to several targets (default console)
+ */
+public class HeadlessBattlePets {
+    private static final String MODE_BATTLE = "battle";
+    private static final String MODE_SEASON = "season";
+    private static final String MODE_SWISS = "swiss";
+    private static final String MODE_SINGLE = "single";
+    private static final String MODE_DOUBLE = "double";
+    private static final String SKILLS_MASKED = "masked";
+    private static final String SKILLS_LEGACY = "legacy";
+    private static final String USAGE =
+            "Usage: HeadlessBattlePets [--file <path>] [--mode battle|season|swiss|single|double] [--seed <int>] " +
+            "[--fights <int>] [--runs <int>] [--threads <int>] [--skill-selection masked|legacy] [--checkpoint <path>] [--checkpoint-every <int>] [--ratings <path>] [--output console|async|discard|<path> ...] " +
+            "--pet <name>:<type>:<hp>:<seed> --pet ... [--expectimax-pet <name>:<type>:<hp>:<ms>[:<depth>] ...]";
+    private static final String OUTPUT_CONSOLE = "console";
+    private static final String OUTPUT_ASYNC = "async";
+    private static final String OUTPUT_DISCARD = "discard";
+    private static final int RATINGS_SHOWN = 10;
+
+    private final GameSettings.GameSettingsBuilder gameSettingsBuilder;
+    private final List<Playable> playables;
+    private final List<String> outputTargets;
+    private String mode;
+    private int runs;
+    private int threads;
+    private String ratingsPath;
+    private String checkpointPath;
+    private int checkpointInterval;
+    private boolean legacySkillSelection;
+
+    /**
+     * Constructs a new HeadlessBattlePets with the default settings and an empty roster.
+     */
+    public HeadlessBattlePets() {
+        gameSettingsBuilder = new GameSettings.GameSettingsBuilder().withFightsPerBattle(1);
+        playables = new ArrayList<>();
+        outputTargets = new ArrayList<>();
+        mode = MODE_BATTLE;
+        runs = 1;
+        threads = -1;
+        checkpointInterval = 1;
+    }
+
+    public static void main(String[] args) {
+        IOManager ioManager = IOManager.getInstance();
+        HeadlessBattlePets game = new HeadlessBattlePets();
+
+        try {
+            game.parseArguments(args);
+            game.selectOutput();
+            game.run();
+        }
+        catch (IllegalArgumentException | IllegalStateException ex) {
+            ioManager.getOutputStream().writeOutput(ex.getMessage() + "\n" + USAGE);
+        }
+        finally {
+            ioManager.closeOutputStream();
+        }
+    }
+
+    /**
+     * Applies every "--key value" pair of the given arguments to this game's settings.
+     * @param args The command line arguments.
+     */
+    public void parseArguments(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Expected \"--<key> <value>\" but found \"" + args[i] + "\".");
+
+            applySetting(args[i].substring(2), args[i + 1]);
+        }
+    }
+
+    /**
+     * Applies every "key=value" line of a settings file to this game's settings. Blank
+     * lines and lines starting with '#' are ignored.
+     * @param path The path to the settings file.
+     */
+    public void parseFile(String path) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Paths.get(path));
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to read settings file \"" + path + "\".", ex);
+        }
+
+        for (String line : lines) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+
+            int separator = line.indexOf('=');
+            if (separator < 0)
+                throw new IllegalArgumentException("Expected \"<key>=<value>\" but found \"" + line + "\".");
+
+            applySetting(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+        }
+    }
+
+    /**
+     * Applies a single setting.
+     * @param key The name of the setting.
+     * @param value The value of the setting.
+     */
+    private void applySetting(String key, String value) {
+        switch (key) {
+            case "file":
+                parseFile(value);
+                break;
+            case "mode":
+                if (!Arrays.asList(MODE_BATTLE, MODE_SEASON, MODE_SWISS, MODE_SINGLE, MODE_DOUBLE).contains(value))
+                    throw new IllegalArgumentException("Mode must be \"" + MODE_BATTLE + "\", \"" + MODE_SEASON + "\", \"" +
+                            MODE_SWISS + "\", \"" + MODE_SINGLE + "\" or \"" + MODE_DOUBLE + "\".");
+                mode = value;
+                break;
+            case "seed":
+                gameSettingsBuilder.withSeed(parseInteger(value, Integer.MIN_VALUE));
+                break;
+            case "fights":
+                gameSettingsBuilder.withFightsPerBattle(parseInteger(value, 0));
+                break;
+            case "runs":
+                runs = parseInteger(value, 0);
+                break;
+            case "threads":
+                threads = parseInteger(value, -1);
+                break;
+            case "pet":
+                addPet(parsePet(value));
+                break;
+            case "expectimax-pet":
+                addPet(parseExpectimaxPet(value));
+                break;
+            case "skill-selection":
+                if (!value.equals(SKILLS_MASKED) && !value.equals(SKILLS_LEGACY))
+                    throw new IllegalArgumentException("Skill selection must be \"" + SKILLS_MASKED + "\" or \"" + SKILLS_LEGACY + "\".");
+                legacySkillSelection = value.equals(SKILLS_LEGACY);
+                for (Playable playable : playables) {
+                    if (playable instanceof AIPet)
+                        ((AIPet) playable).setLegacySkillSelection(legacySkillSelection);
+                }
+                break;
+            case "checkpoint":
+                checkpointPath = value;
+                break;
+            case "checkpoint-every":
+                checkpointInterval = parseInteger(value, 0);
+                break;
+            case "ratings":
+                ratingsPath = value;
+                break;
+            case "output":
+                outputTargets.add(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown setting \"" + key + "\".");
+        }
+    }
+
+    /**
+     * Adds a pet to the roster. Pets are rated and reported by name, so names must be unique.
+     */
+    private void addPet(Playable pet) {
+        for (Playable existing : playables) {
+            if (existing.getPetName().equals(pet.getPetName()))
+                throw new IllegalArgumentException("The roster already has a pet named \"" + pet.getPetName() + "\".");
+        }
+
+        playables.add(pet);
+    }
+
+    /**
+     * Parses an AIPet from the form "name:type:hp:seed".
+     * @param value The text describing the AIPet.
+     * @return The new AIPet.
+     */
+    private AIPet parsePet(String value) {
+        String[] fields = value.split(":");
+        if (fields.length != 4)
+            throw new IllegalArgumentException("Pets must be given as <name>:<type>:<hp>:<seed> but found \"" + value + "\".");
+
+        return new AIPet.AIPetBuilder()
+                .withPlayer(new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Computer").build())
+                .withName(fields[0].trim())
+                .withType(parsePetType(fields[1]))
+                .withStartingHp(parseStartingHp(fields[2]))
+                .withSeed(parseInteger(fields[3].trim(), Integer.MIN_VALUE))
+                .withLegacySkillSelection(legacySkillSelection)
+                .build();
+    }
+
+    /**
+     * Parses an ExpectimaxPet from the form "name:type:hp:ms" or "name:type:hp:ms:depth".
+     * @param value The text describing the ExpectimaxPet.
+     * @return The new ExpectimaxPet.
+     */
+    private ExpectimaxPet parseExpectimaxPet(String value) {
+        String[] fields = value.split(":");
+        if (fields.length != 4 && fields.length != 5)
+            throw new IllegalArgumentException("Expectimax pets must be given as <name>:<type>:<hp>:<ms>[:<depth>] but found \"" + value + "\".");
+
+        ExpectimaxPet.ExpectimaxPetBuilder petBuilder = new ExpectimaxPet.ExpectimaxPetBuilder()
+                .withPlayer(new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Computer").build())
+                .withName(fields[0].trim())
+                .withType(parsePetType(fields[1]))
+                .withStartingHp(parseStartingHp(fields[2]))
+                .withMoveBudget(parseInteger(fields[3].trim(), -1));
+        if (fields.length == 5)
+            petBuilder.withMaxDepth(parseInteger(fields[4].trim(), 0));
+
+        return petBuilder.build();
+    }
+
+    private static PetTypes parsePetType(String value) {
+        try {
+            return PetTypes.valueOf(value.trim().toUpperCase());
+        }
+        catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Unknown pet type \"" + value + "\".");
+        }
+    }
+
+    private static double parseStartingHp(String value) {
+        if (!InputUtils.isDoubleAndAbove(value.trim(), 0))
+            throw new IllegalArgumentException("Starting HP must be more than 0.");
+
+        return Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Replaces the IOManager's output stream with the configured output targets. Does
+     * nothing if no target was given, leaving output on the Console.
+     */
+    public void selectOutput() {
+        if (outputTargets.isEmpty())
+            return;
+
+        Outputable[] outputs = new Outputable[outputTargets.size()];
+        for (int i = 0; i < outputs.length; i++)
+            outputs[i] = createOutput(outputTargets.get(i));
+
+        IOManager.getInstance().setOutputStream(outputs.length == 1 ? outputs[0] : new TeeWriter(outputs));
+    }
+
+    /**
+     * Creates the Outputable for a single output target.
+     * @param target "console", "async", "discard" or a file path.
+     * @return The new Outputable.
+     */
+    private static Outputable createOutput(String target) {
+        switch (target) {
+            case OUTPUT_CONSOLE:
+                return new ConsoleWriter();
+            case OUTPUT_ASYNC:
+                return new AsyncWriter();
+            case OUTPUT_DISCARD:
+                return new DiscardWriter();
+            default:
+                try {
+                    return new TextFileWriter(Paths.get(target));
+                }
+                catch (IOException | InvalidPathException ex) {
+                    throw new IllegalArgumentException("Unable to open output file \"" + target + "\".", ex);
+                }
+        }
+    }
+
+    /**
+     * Parses an integer setting.
+     * @param value The text of the setting.
+     * @param above The value the setting must be above.
+     * @return The parsed integer.
+     */
+    private static int parseInteger(String value, int above) {
+        if (!InputUtils.isIntegerAndAbove(value, above))
+            throw new IllegalArgumentException("\"" + value + "\" must be an integer above " + above + ".");
+
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * @return The roster of AIPets, in the order they were configured.
+     */
+    public List<Playable> getPlayables() { return playables; }
+
+    /**
+     * @return The configured game settings, with the size of the roster as the player count.
+     */
+    public GameSettings getGameSettings() {
+        return gameSettingsBuilder.withPlayerCount(playables.size()).build();
+    }
+
+    /**
+     * Runs the configured game the configured number of times and reports the
+     * number of fights completed per second.
+     */
+    public void run() {
+        GameSettings gameSettings = getGameSettings();
+        long fightCount = 0;
+        long battleCount = 0;
+        ForkJoinPool pool = null;
+        RatingEngine ratingEngine = ratingsPath != null ? loadRatings() : null;
+
+        if (checkpointPath != null && (!mode.equals(MODE_SEASON) || runs != 1))
+            throw new IllegalArgumentException("Checkpoints need season mode and a single run.");
+
+        if (threads >= 0)
+            pool = threads == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(threads);
+
+        long startTime = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            // No display sinks, so no display text is ever built
+            GameEventBus eventBus = ratingEngine != null ? new GameEventBus(ratingEngine) : new GameEventBus();
+            BattleController battleController = new BattleController(new RestorableRandom(gameSettings.getSeed()), gameSettings.getFightsPerBattle(), eventBus);
+
+            if (mode.equals(MODE_BATTLE)) {
+                Battle battle = battleController.start(playables);
+                fightCount += battle.getFightList().size();
+                battleCount++;
+            }
+            else if (mode.equals(MODE_SWISS)) {
+                SwissTournament tournament = new SwissController(battleController).start(playables);
+                for (Battle battle : tournament.getBattleList())
+                    fightCount += battle.getFightList().size();
+                battleCount += tournament.getBattleList().size();
+            }
+            else if (mode.equals(MODE_SINGLE) || mode.equals(MODE_DOUBLE)) {
+                BracketTypes bracketType = mode.equals(MODE_SINGLE) ? BracketTypes.SINGLE_ELIMINATION : BracketTypes.DOUBLE_ELIMINATION;
+                BracketController bracketController = new BracketController(gameSettings, bracketType,
+                        pool != null ? pool : ForkJoinPool.commonPool(), eventBus);
+                if (ratingEngine != null)
+                    bracketController.getBattleEventBus().subscribe(ratingEngine);
+                Bracket bracket = bracketController.start(playables);
+                fightCount += bracket.getFightCount();
+                battleCount += bracket.getBattleCount();
+            }
+            else if (pool != null) {
+                ParallelSeasonController seasonController = new ParallelSeasonController(gameSettings, pool, eventBus);
+                if (ratingEngine != null)
+                    seasonController.getBattleEventBus().subscribe(ratingEngine);
+                Season season;
+                if (checkpointPath == null) {
+                    season = seasonController.start(playables);
+                }
+                else {
+                    seasonController.enableCheckpoints(getCheckpointPath(), checkpointInterval);
+                    season = Files.exists(getCheckpointPath()) ? resume(seasonController::resume) : seasonController.start(playables);
+                }
+                for (Battle battle : season.getBattleList())
+                    fightCount += battle.getFightList().size();
+                battleCount += season.getBattleList().size();
+            }
+            else {
+                SeasonController seasonController = new SeasonController(new Random(gameSettings.getSeed()), battleController);
+                Season season;
+                if (checkpointPath == null) {
+                    season = seasonController.start(playables);
+                }
+                else {
+                    seasonController.enableCheckpoints(getCheckpointPath(), checkpointInterval);
+                    season = Files.exists(getCheckpointPath()) ? resume(seasonController::resume) : seasonController.start(playables);
+                }
+                for (Battle battle : season.getBattleList())
+                    fightCount += battle.getFightList().size();
+                battleCount += season.getBattleList().size();
+            }
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        if (pool != null && pool != ForkJoinPool.commonPool())
+            pool.shutdown();
+
+        displayReport(battleCount, fightCount, elapsedNanos);
+
+        if (ratingEngine != null)
+            saveRatings(ratingEngine);
+    }
+
+    private Path getCheckpointPath() {
+        try {
+            return Paths.get(checkpointPath);
+        }
+        catch (InvalidPathException ex) {
+            throw new IllegalArgumentException("Invalid checkpoint file \"" + checkpointPath + "\".", ex);
+        }
+    }
+
+    /**
+     * A Season controller's resume method.
+     */
+    private interface SeasonResumer {
+        Season resume(List<Playable> playables) throws IOException;
+    }
+
+    /**
+     * Resumes the Season from its checkpoint file.
+     * @param resumer The resume method of the Season's controller.
+     * @return The finished Season.
+     */
+    private Season resume(SeasonResumer resumer) {
+        try {
+            return resumer.resume(playables);
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to read checkpoint file \"" + checkpointPath + "\".", ex);
+        }
+    }
+
+    /**
+     * @return The ratings saved in the ratings file, or a new RatingEngine if the file does not exist yet.
+     */
+    private RatingEngine loadRatings() {
+        try {
+            Path path = Paths.get(ratingsPath);
+            return Files.exists(path) ? RatingEngine.load(path) : new RatingEngine();
+        }
+        catch (IOException | InvalidPathException ex) {
+            throw new IllegalArgumentException("Unable to read ratings file \"" + ratingsPath + "\".", ex);
+        }
+    }
+
+    /**
+     * Saves the ratings to the ratings file and displays the highest rated pets of the roster.
+     */
+    private void saveRatings(RatingEngine ratingEngine) {
+        try {
+            ratingEngine.save(Paths.get(ratingsPath));
+        }
+        catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to write ratings file \"" + ratingsPath + "\".", ex);
+        }
+
+        List<Playable> ranked = ratingEngine.sortByRating(playables);
+        for (int i = 0; i < Math.min(ranked.size(), RATINGS_SHOWN); i++) {
+            IOManager.getInstance().getOutputStream().writeOutput(String.format("%d) %s: %.1f",
+                    i + 1, ranked.get(i).getPetName(), ratingEngine.getRating(ranked.get(i))));
+        }
+    }
+
+    /**
+     * Displays the number of Battles and Fights completed and the fight throughput.
+     * @param battleCount The number of Battles completed across all runs.
+     * @param fightCount The number of Fights completed across all runs.
+     * @param elapsedNanos The time spent running the games, in nanoseconds.
+     */
+    private void displayReport(long battleCount, long fightCount, long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+
+        IOManager.getInstance().getOutputStream().writeOutput(String.format(
+                "Completed %d run(s): %d Battles, %d Fights in %.3f s (%.1f fights/s)",
+                runs, battleCount, fightCount, elapsedSeconds, fightCount / Math.max(elapsedSeconds, 1e-9)));
+    }
+}
@@ -0,0 +1,132 @@
+package Control;
+
+import Entity.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Estimates how often one AIPet beats another by running many independent Fights
+ * in parallel. Fight i of a MatchupSettings uses a seed derived from firstSeed and
+ * i for the Fight itself, and seeds derived from that for both AIPets, so an
+ * estimate is the same no matter how many threads compute it.
+ */
+public class MatchupEstimator {
+    private static final int FIGHTS_PER_TASK = 4096;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new MatchupEstimator that runs on the common ForkJoinPool.
+     */
+    public MatchupEstimator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new MatchupEstimator.
+     * @param pool The pool used to run the Fights.
+     */
+    public MatchupEstimator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Runs every Fight described by the settings and summarizes the results.
+     * @param settings The two pets and the range of seeds to simulate.
+     * @return The win probability of the first pet and the distribution of Fight lengths.
+     */
+    public MatchupEstimate estimate(MatchupSettings settings) {
+        Tally tally = pool.invoke(new FightRangeTask(settings, 0, settings.getFightCount()));
+        return new MatchupEstimate(settings.getFightCount(), tally.petOneWins, tally.fightLengthCounts);
+    }
+
+    /**
+     * Running totals for a range of Fights.
+     */
+    private static class Tally {
+        private long petOneWins;
+        private long[] fightLengthCounts = new long[64];
+
+        private void addFight(int rounds, boolean petOneWon) {
+            if (rounds >= fightLengthCounts.length)
+                fightLengthCounts = Arrays.copyOf(fightLengthCounts, Math.max(rounds + 1, fightLengthCounts.length * 2));
+
+            fightLengthCounts[rounds]++;
+            if (petOneWon)
+                petOneWins++;
+        }
+
+        private Tally merge(Tally other) {
+            if (other.fightLengthCounts.length > fightLengthCounts.length)
+                fightLengthCounts = Arrays.copyOf(fightLengthCounts, other.fightLengthCounts.length);
+
+            for (int i = 0; i < other.fightLengthCounts.length; i++)
+                fightLengthCounts[i] += other.fightLengthCounts[i];
+            petOneWins += other.petOneWins;
+
+            return this;
+        }
+    }
+
+    /**
+     * Runs the Fights in [from, to), splitting the range until it is small enough to
+     * run on one thread.
+     */
+    private static class FightRangeTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final MatchupSettings settings;
+        private final int from;
+        private final int to;
+
+        private FightRangeTask(MatchupSettings settings, int from, int to) {
+            this.settings = settings;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from > FIGHTS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                FightRangeTask left = new FightRangeTask(settings, from, middle);
+                left.fork();
+                Tally right = new FightRangeTask(settings, middle, to).compute();
+                return left.join().merge(right);
+            }
+
+            Player computer = new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Computer").build();
+            AIPet petOne = new AIPet.AIPetBuilder().withPlayer(computer).withName("Pet One")
+                    .withType(settings.getPetOneType()).withStartingHp(settings.getPetOneStartingHp()).build();
+            AIPet petTwo = new AIPet.AIPetBuilder().withPlayer(computer).withName("Pet Two")
+                    .withType(settings.getPetTwoType()).withStartingHp(settings.getPetTwoStartingHp()).build();
+
+            List<Playable> playables = new ArrayList<>();
+            playables.add(petOne);
+            playables.add(petTwo);
+
+            // One controller per task, reseeded before every Fight
+            Random rng = new Random();
+            FightStateController fightController = new FightStateController(rng);
+
+            Tally tally = new Tally();
+            for (int i = from; i < to; i++) {
+                // Consecutive seeds give correlated Random sequences, so each Fight's seed is mixed
+                long fightSeed = Utils.deriveSeed(settings.getFirstSeed(), i);
+                rng.setSeed(fightSeed);
+                petOne.setSeed(Utils.deriveSeed(fightSeed, 1));
+                petTwo.setSeed(Utils.deriveSeed(fightSeed, 2));
+
+                Fight fight = fightController.start(playables);
+                tally.addFight(fight.getRoundNumber(), fight.getWinningPlayer() == 0);
+            }
+
+            return tally;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package Control;
+
+import Entity.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Controls the game loop for a Season whose Battles run in parallel. Every 1v1
+ * matchup within a SeasonRound uses a disjoint pair of pets, so each matchup is
+ * run on the ForkJoinPool with its own BattleController and random number
+ * generator. Rounds still run one after another, and results are merged into the
+ * Season in matchup order once every Battle of the round has finished.
+ *
+ * Battles use the array-based FightStateController. Each Battle is seeded from the game seed and the
+ * Battle's number in the Season, and each of its AIPets from the Battle's seed and the
+ * AIPet's own seed, so results are the same for a given seed no matter how many threads
+ * run the Season. For the same reason a checkpoint only needs the completed rounds, the
+ * Battle number and the wins to resume a Season.
+ */
+public class ParallelSeasonController extends AbstractSeasonController {
+    private final ForkJoinPool pool;
+    private final GameEventBus battleEventBus;
+    private final int seed;
+    private final int fightsPerBattle;
+
+    /**
+     * Constructs a new ParallelSeasonController that runs on the common ForkJoinPool.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     */
+    public ParallelSeasonController(GameSettings gameSettings) {
+        this(gameSettings, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new ParallelSeasonController.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param pool The pool used to run the Battles of each SeasonRound.
+     */
+    public ParallelSeasonController(GameSettings gameSettings, ForkJoinPool pool) {
+        this(gameSettings, pool, GameEventBus.createDisplayBus());
+    }
+
+    /**
+     * Constructs a new ParallelSeasonController. Only Season rounds and results are
+     * published to the bus. Individual Battles run concurrently, so they publish their
+     * own events to the separate bus returned by getBattleEventBus().
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param pool The pool used to run the Battles of each SeasonRound.
+     * @param eventBus The bus Season events are published to.
+     */
+    public ParallelSeasonController(GameSettings gameSettings, ForkJoinPool pool, GameEventBus eventBus) {
+        super(eventBus);
+        this.pool = pool;
+        this.battleEventBus = new GameEventBus();
+        this.seed = gameSettings.getSeed();
+        this.fightsPerBattle = gameSettings.getFightsPerBattle();
+    }
+
+    /**
+     * Returns the bus that every Battle of the Season publishes its own events to, with no
+     * sinks to begin with. Battles run concurrently, so sinks subscribed to it receive
+     * events from several pool threads at once and must be thread-safe.
+     * @return The bus of the Season's Battles.
+     */
+    public GameEventBus getBattleEventBus() { return battleEventBus; }
+
+    /**
+     * Starts the Season, running the Battles of each SeasonRound in parallel.
+     * @param playables The list of players active in this Season. All of them must be AIPets.
+     */
+    public Season start(List<Playable> playables) {
+        checkPlayables(playables);
+
+        season = new Season(playables);
+        return play(1);
+    }
+
+    /**
+     * Resumes a Season from the checkpoint file and plays the SeasonRounds that had not been
+     * completed. Only Battles played after resuming are added to the Season's list of Battles.
+     * @param playables The list of players in the Season, in the order the Season was started with.
+     * @return The finished Season.
+     * @throws IOException If the checkpoint cannot be read.
+     */
+    public Season resume(List<Playable> playables) throws IOException {
+        if (getCheckpointPath() == null)
+            throw new IllegalStateException("Checkpoints have not been enabled.");
+        checkPlayables(playables);
+
+        SeasonCheckpoint checkpoint = SeasonCheckpoint.read(getCheckpointPath());
+        checkpoint.restorePets(playables);
+
+        season = checkpoint.createSeason(playables);
+        return play(checkpoint.getRoundsCompleted() + 1);
+    }
+
+    private void checkPlayables(List<Playable> playables) {
+        for (Playable playable : playables) {
+            if (!(playable instanceof AIPet))
+                throw new IllegalArgumentException("Parallel Seasons can only be played by computer players.");
+        }
+    }
+
+    /**
+     * Submits every Battle of a SeasonRound to the pool, then waits for them and adds the
+     * results to the Season in matchup order.
+     * @param sr The SeasonRound to play.
+     */
+    @Override
+    protected void playRound(SeasonRound sr) {
+        List<List<Playable>> matchups = sr.getParticipantsList();
+        List<ForkJoinTask<Battle>> battleTasks = new ArrayList<>(matchups.size());
+
+        // Submit every 2-Player Match-Up of this round, numbering byes as well so
+        // each Battle's seed only depends on its position in the Season.
+        for (List<Playable> matchup : matchups) {
+            season.incrementBattleNumber();
+
+            if (!matchup.contains(null))
+                battleTasks.add(pool.submit(createBattleTask(matchup, Utils.deriveSeed(seed, season.getBattleNumber()), fightsPerBattle, battleEventBus)));
+            else
+                battleTasks.add(null);
+        }
+
+        for (int m = 0; m < matchups.size(); m++) {
+            if (battleTasks.get(m) != null)
+                recordBattle(sr, m, battleTasks.get(m).join());
+            else
+                recordBye(sr, m);
+        }
+    }
+
+    /**
+     * Every Battle is reseeded from the game seed, so no random number generator needs saving.
+     */
+    @Override
+    protected long getRngState() {
+        return SeasonCheckpoint.NO_STATE;
+    }
+
+    /**
+     * Creates the task that runs a single Battle with its own controller and seeds. Each AIPet
+     * is reseeded from the Battle's seed, its position in the matchup and the seed it was
+     * built with, so pets given different seeds play differently in the same Battle.
+     * @param matchup The two pets in this Battle.
+     * @param battleSeed The seed of this Battle, derived from the game seed and the Battle's number.
+     * @param fightsPerBattle The number of Fights in the Battle.
+     * @param battleEventBus The bus the Battle publishes its own events to.
+     * @return The task, returning the finished Battle.
+     */
+    static ForkJoinTask<Battle> createBattleTask(List<Playable> matchup, long battleSeed, int fightsPerBattle, GameEventBus battleEventBus) {
+        return ForkJoinTask.adapt(() -> {
+            for (int i = 0; i < matchup.size(); i++) {
+                AIPet pet = (AIPet) matchup.get(i);
+                pet.setSeed(Utils.deriveSeed(Utils.deriveSeed(battleSeed, i + 1), pet.getSeed()));
+            }
+
+            Random rng = new Random(battleSeed);
+            BattleController battleController = new BattleController(rng, fightsPerBattle, new FightStateController(rng), battleEventBus);
+            return battleController.start(matchup);
+        });
+    }
+}
@@ -0,0 +1,288 @@
+package Control;
+
+import Entity.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Keeps an Elo rating for every pet, updated as each Battle ends. Pets are identified
+ * by name, so ratings carry over from one Season, tournament or run to the next, and
+ * can be saved and loaded to seed later games without replaying their history. Pets
+ * playing in the same game must therefore have different names.
+ *
+ * Ratings are held in primitive arrays indexed by a rating id. Updates from parallel
+ * Battles lock only the stripes of the two pets involved, always in stripe order, and
+ * growing the arrays for new pets takes the write side of a read-write lock that every
+ * update holds the read side of. Register it as a sink on a bus publishing BattleEnded
+ * events to rate every Battle automatically.
+ */
+public class RatingEngine implements GameEventSink {
+    public static final double DEFAULT_RATING = 1500;
+    public static final double DEFAULT_K_FACTOR = 32;
+    private static final int STRIPE_COUNT = 64;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int FILE_VERSION = 1;
+
+    private final double kFactor;
+    private final Map<String, Integer> ratingIds;
+    private final ReentrantReadWriteLock resizeLock;
+    private final ReentrantLock[] stripes;
+    private final List<String> names;
+    private double[] ratings;
+    private int[] battleCounts;
+
+    /**
+     * Constructs a new RatingEngine with the default K-factor.
+     */
+    public RatingEngine() {
+        this(DEFAULT_K_FACTOR);
+    }
+
+    /**
+     * Constructs a new RatingEngine.
+     * @param kFactor The largest change to a rating a single Battle can cause.
+     */
+    public RatingEngine(double kFactor) {
+        if (kFactor <= 0)
+            throw new IllegalArgumentException("The K-factor must be above 0.");
+
+        this.kFactor = kFactor;
+        this.ratingIds = new ConcurrentHashMap<>();
+        this.resizeLock = new ReentrantReadWriteLock();
+        this.stripes = new ReentrantLock[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++)
+            this.stripes[i] = new ReentrantLock();
+        this.names = new ArrayList<>();
+        this.ratings = new double[INITIAL_CAPACITY];
+        this.battleCounts = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Loads ratings saved by save().
+     * @param path The file to read.
+     * @return A new RatingEngine holding the saved ratings.
+     * @throws IOException If the file cannot be read or is not a ratings file.
+     */
+    public static RatingEngine load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != FILE_VERSION)
+                throw new IOException("\"" + path + "\" is not a supported ratings file.");
+
+            RatingEngine ratingEngine = new RatingEngine(in.readDouble());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                int id = ratingEngine.getRatingId(in.readUTF());
+                ratingEngine.ratings[id] = in.readDouble();
+                ratingEngine.battleCounts[id] = in.readInt();
+            }
+
+            return ratingEngine;
+        }
+    }
+
+    /**
+     * Saves every rating, so a later game can load them. The file is replaced only once
+     * the new one is completely written, so a crash never leaves a partial ratings file.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path path) throws IOException {
+        // Copied under the lock, so Battles can keep being rated while the file is written
+        String[] savedNames;
+        double[] savedRatings;
+        int[] savedBattleCounts;
+        resizeLock.writeLock().lock();
+        try {
+            savedNames = names.toArray(new String[0]);
+            savedRatings = Arrays.copyOf(ratings, savedNames.length);
+            savedBattleCounts = Arrays.copyOf(battleCounts, savedNames.length);
+        }
+        finally {
+            resizeLock.writeLock().unlock();
+        }
+
+        AtomicFile.write(path, out -> {
+            out.writeInt(FILE_VERSION);
+            out.writeDouble(kFactor);
+            out.writeInt(savedNames.length);
+            for (int id = 0; id < savedNames.length; id++) {
+                out.writeUTF(savedNames[id]);
+                out.writeDouble(savedRatings[id]);
+                out.writeInt(savedBattleCounts[id]);
+            }
+        });
+    }
+
+    /**
+     * Rates the Battle as soon as it ends.
+     */
+    @Override
+    public void onBattleEnded(GameEvent.BattleEnded event) {
+        recordBattle(event.getBattle());
+    }
+
+    /**
+     * Updates ratings for a finished Battle. The winner is treated as having beaten every
+     * other player in the Battle. Safe to call from several threads at once.
+     * @param battle The finished Battle.
+     * @throws IllegalArgumentException If two players of the Battle have pets with the same name.
+     */
+    public void recordBattle(Battle battle) {
+        List<Playable> players = battle.getPlayers();
+        int winnerIndex = battle.getWinnerIndex();
+        int winnerId = getRatingId(players.get(winnerIndex).getPetName());
+
+        for (int i = 0; i < players.size(); i++) {
+            if (i == winnerIndex)
+                continue;
+
+            int loserId = getRatingId(players.get(i).getPetName());
+            if (loserId == winnerId)
+                throw new IllegalArgumentException("Two pets named \"" + players.get(i).getPetName() + "\" cannot share a rating.");
+
+            recordResult(winnerId, loserId);
+        }
+    }
+
+    /**
+     * Applies the Elo update for a single win.
+     * @param winnerId The rating id of the winner.
+     * @param loserId The rating id of the loser.
+     */
+    private void recordResult(int winnerId, int loserId) {
+        int firstStripe = Math.min(winnerId % STRIPE_COUNT, loserId % STRIPE_COUNT);
+        int secondStripe = Math.max(winnerId % STRIPE_COUNT, loserId % STRIPE_COUNT);
+
+        resizeLock.readLock().lock();
+        stripes[firstStripe].lock();
+        if (secondStripe != firstStripe)
+            stripes[secondStripe].lock();
+        try {
+            double expected = 1 / (1 + Math.pow(10, (ratings[loserId] - ratings[winnerId]) / 400));
+            double change = kFactor * (1 - expected);
+
+            ratings[winnerId] += change;
+            ratings[loserId] -= change;
+            battleCounts[winnerId]++;
+            battleCounts[loserId]++;
+        }
+        finally {
+            if (secondStripe != firstStripe)
+                stripes[secondStripe].unlock();
+            stripes[firstStripe].unlock();
+            resizeLock.readLock().unlock();
+        }
+    }
+
+    public double getKFactor() { return kFactor; }
+
+    /**
+     * @return The number of pets that have a rating.
+     */
+    public int getRatedCount() { return ratingIds.size(); }
+
+    /**
+     * @param petName The name of a pet.
+     * @return The pet's rating, or DEFAULT_RATING if it has never been rated.
+     */
+    public double getRating(String petName) {
+        Integer id = ratingIds.get(petName);
+        if (id == null)
+            return DEFAULT_RATING;
+
+        resizeLock.readLock().lock();
+        stripes[id % STRIPE_COUNT].lock();
+        try {
+            return ratings[id];
+        }
+        finally {
+            stripes[id % STRIPE_COUNT].unlock();
+            resizeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param player A pet.
+     * @return The pet's rating, or DEFAULT_RATING if it has never been rated.
+     */
+    public double getRating(Playable player) { return getRating(player.getPetName()); }
+
+    /**
+     * @param petName The name of a pet.
+     * @return The number of rated Battle results the pet has taken part in.
+     */
+    public int getBattleCount(String petName) {
+        Integer id = ratingIds.get(petName);
+        if (id == null)
+            return 0;
+
+        resizeLock.readLock().lock();
+        stripes[id % STRIPE_COUNT].lock();
+        try {
+            return battleCounts[id];
+        }
+        finally {
+            stripes[id % STRIPE_COUNT].unlock();
+            resizeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Orders players for seeding a Season, tournament or Bracket.
+     * @param players The players to order.
+     * @return A new list of the players, from the highest rating to the lowest.
+     */
+    public List<Playable> sortByRating(List<Playable> players) {
+        double[] playerRatings = new double[players.size()];
+        Integer[] order = new Integer[players.size()];
+        for (int i = 0; i < order.length; i++) {
+            playerRatings[i] = getRating(players.get(i));
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Double.compare(playerRatings[b], playerRatings[a]));
+
+        List<Playable> sorted = new ArrayList<>(players.size());
+        for (int i : order)
+            sorted.add(players.get(i));
+
+        return sorted;
+    }
+
+    /**
+     * @param petName The name of a pet.
+     * @return The pet's rating id, registering the pet at the default rating if it is new.
+     */
+    private int getRatingId(String petName) {
+        Integer id = ratingIds.get(petName);
+        if (id != null)
+            return id;
+
+        resizeLock.writeLock().lock();
+        try {
+            id = ratingIds.get(petName);
+            if (id != null)
+                return id;
+
+            id = names.size();
+            if (id == ratings.length) {
+                ratings = Arrays.copyOf(ratings, id * 2);
+                battleCounts = Arrays.copyOf(battleCounts, id * 2);
+            }
+
+            ratings[id] = DEFAULT_RATING;
+            names.add(petName);
+            ratingIds.put(petName, id);
+            return id;
+        }
+        finally {
+            resizeLock.writeLock().unlock();
+        }
+    }
+}
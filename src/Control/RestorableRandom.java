@@ -0,0 +1,52 @@
+package Control;
+
+import java.util.Random;
+
+/**
+ * A Random whose internal state can be read and restored, so a game can be checkpointed
+ * and resumed exactly where it stopped. It uses the same linear congruential generator as
+ * java.util.Random, so it produces the same numbers for the same seed. Unlike Random it is
+ * not safe to share between threads, and nextGaussian() is not restored.
+ */
+public class RestorableRandom extends Random {
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Assigned by setSeed() during Random's constructor, so it must not have an initializer
+    private long state;
+
+    /**
+     * Constructs a new RestorableRandom.
+     * @param seed The initial seed, as for java.util.Random.
+     */
+    public RestorableRandom(long seed) {
+        super(seed);
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    /**
+     * @return The generator's internal 48-bit state.
+     */
+    public long getState() { return state; }
+
+    /**
+     * Restores a state previously returned by getState().
+     * @param state The internal 48-bit state.
+     */
+    public void setState(long state) {
+        setSeed(state ^ MULTIPLIER);
+    }
+}
@@ -1,50 +1,41 @@
-package Control;
-
-import Entity.Damage;
-import Entity.Playable;
-import Entity.Round;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
-/**
- * Determines the conditional damage for all ReversalOfFortune attacks.
- */
-public class ReversalOfFortuneDamageCalculator implements SkillDamageCalculator {
-
-    private final List<Round> roundHistory;
-    private final Playable playable;
-
-    /**
-     * Constructs a new ReversalOfFortuneDamageCalculator.
-     * @param roundHistory A list of all previous Round data
-     * @param playable The playable dealing the damage
-     */
-    public ReversalOfFortuneDamageCalculator(List<Round> roundHistory, Playable playable) {
-        this.roundHistory = roundHistory;
-        this.playable = playable;
-    }
-
-    /**
-     * Calculates the conditional damage for this attack.
-     * @return The conditional damage.
-     */
-    @Override
-    public double calculateDamage() {
-        double randomDamageTaken = 0;
-        double randomDamageDealt = 0;
-
-        for (Round round : roundHistory) {
-            Map<Playable, Damage> damages = round.getDamagesDealt();
-            List<Playable> players = new ArrayList<>(damages.keySet());
-            int indexOfOpponent = players.indexOf(playable) == 0 ? players.size() - 1 : players.indexOf(playable) - 1;
-            Playable prevPlayer = players.get(indexOfOpponent);
-
-            randomDamageDealt += damages.get(playable).getRandomDamage();
-            randomDamageTaken += damages.get(prevPlayer).getRandomDamage();
-        }
-
-        return -(randomDamageDealt - randomDamageTaken);
-    }
-}
+package Control;
+
+import Entity.DamageHistory;
+
+/**
+ * Determines the conditional damage for all ReversalOfFortune attacks.
+ */
+public class ReversalOfFortuneDamageCalculator implements SkillDamageCalculator {
+
+    private final DamageHistory damageHistory;
+    private final int slot;
+
+    /**
+     * Constructs a new ReversalOfFortuneDamageCalculator.
+     * @param damageHistory The running random damage totals of all previous Rounds
+     * @param slot The slot of the player dealing the damage
+     */
+    public ReversalOfFortuneDamageCalculator(DamageHistory damageHistory, int slot) {
+        this.damageHistory = damageHistory;
+        this.slot = slot;
+    }
+
+    /**
+     * Calculates the conditional damage for this attack.
+     * @return The conditional damage.
+     */
+    @Override
+    public double calculateDamage() {
+        return calculateDamage(damageHistory.getRandomDamageDealt(slot), damageHistory.getRandomDamageTaken(slot));
+    }
+
+    /**
+     * Calculates the conditional damage for this attack from running random damage totals.
+     * @param randomDamageDealt The total random damage the player has dealt in previous Rounds.
+     * @param randomDamageTaken The total random damage the player has taken in previous Rounds.
+     * @return The conditional damage.
+     */
+    public static double calculateDamage(double randomDamageDealt, double randomDamageTaken) {
+        return -(randomDamageDealt - randomDamageTaken);
+    }
+}
@@ -0,0 +1,193 @@
+package Control;
+
+import Boundary.IOManager;
+import Entity.*;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays a Season across several worker JVMs on the same host. The coordinator launches
+ * one ShardWorker process per shard, all reading the same HeadlessBattlePets settings
+ * file, waits for them, and merges the wins in each worker's result file into the
+ * Season's final standings. Workers share nothing but files in the work directory,
+ * so no external services are needed.
+ *
+ * Arguments:
+ *   --file &lt;path&gt;      The HeadlessBattlePets settings file with the seed, Fights per Battle and roster
+ *   --shards &lt;int&gt;     The number of worker processes (default: the number of processors)
+ *   --workdir &lt;path&gt;   The directory for worker results and logs (default: a new temporary directory)
+ */
+public class ShardCoordinator {
+    private static final String USAGE = "Usage: ShardCoordinator --file <path> [--shards <int>] [--workdir <path>]";
+
+    private final Path settingsPath;
+    private final int shardCount;
+    private final Path workDirectory;
+    private final GameEventBus eventBus;
+    private int battleCount;
+    private long fightCount;
+
+    /**
+     * Constructs a new ShardCoordinator.
+     * @param settingsPath The HeadlessBattlePets settings file describing the Season.
+     * @param shardCount The number of worker processes to launch.
+     * @param workDirectory The directory worker results and logs are written to.
+     * @param eventBus The bus the merged Season's results are published to.
+     */
+    public ShardCoordinator(Path settingsPath, int shardCount, Path workDirectory, GameEventBus eventBus) {
+        if (shardCount < 1)
+            throw new IllegalArgumentException("At least 1 shard is required.");
+
+        this.settingsPath = settingsPath;
+        this.shardCount = shardCount;
+        this.workDirectory = workDirectory;
+        this.eventBus = eventBus;
+    }
+
+    public static void main(String[] args) {
+        IOManager ioManager = IOManager.getInstance();
+        String settingsPath = null;
+        String workDirectory = null;
+        int shardCount = Runtime.getRuntime().availableProcessors();
+
+        try {
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                switch (args[i]) {
+                    case "--file":
+                        settingsPath = args[i + 1];
+                        break;
+                    case "--shards":
+                        shardCount = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--workdir":
+                        workDirectory = args[i + 1];
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown setting \"" + args[i] + "\".");
+                }
+            }
+
+            if (settingsPath == null)
+                throw new IllegalArgumentException("A settings file is required.");
+
+            Path work = workDirectory != null ? Files.createDirectories(Paths.get(workDirectory)) : Files.createTempDirectory("battlepets-shards");
+            ShardCoordinator coordinator = new ShardCoordinator(Paths.get(settingsPath), shardCount, work, GameEventBus.createDisplayBus());
+
+            long startTime = System.nanoTime();
+            coordinator.start();
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+            ioManager.getOutputStream().writeOutput(String.format("Merged %d shard(s): %d Battles, %d Fights in %.3f s (%.1f fights/s)",
+                    shardCount, coordinator.getBattleCount(), coordinator.getFightCount(), elapsedSeconds, coordinator.getFightCount() / Math.max(elapsedSeconds, 1e-9)));
+        }
+        catch (IllegalArgumentException | IllegalStateException ex) {
+            ioManager.getOutputStream().writeOutput(ex.getMessage() + "\n" + USAGE);
+        }
+        catch (IOException ex) {
+            ioManager.getOutputStream().writeOutput("Unable to run the shards: " + ex.getMessage());
+        }
+        finally {
+            ioManager.closeOutputStream();
+        }
+    }
+
+    /**
+     * Launches every worker, waits for them all and merges their results. If any worker
+     * fails, the workers still running are stopped.
+     * @return The merged Season. Its list of Battles is empty, since Battles were played by the workers.
+     * @throws IOException If a worker cannot be launched or its result cannot be read.
+     */
+    public Season start() throws IOException {
+        HeadlessBattlePets settings = new HeadlessBattlePets();
+        settings.parseFile(settingsPath.toString());
+        List<Playable> playables = settings.getPlayables();
+        int settingsHash = ShardResult.getSettingsHash(playables, settings.getGameSettings(), shardCount);
+
+        int[] wins = new int[playables.size()];
+        battleCount = 0;
+        fightCount = 0;
+
+        List<Process> workers = new ArrayList<>(shardCount);
+        boolean merged = false;
+        try {
+            for (int shard = 0; shard < shardCount; shard++)
+                workers.add(launchWorker(shard));
+
+            for (int shard = 0; shard < shardCount; shard++) {
+                int exitCode = waitFor(workers.get(shard));
+                if (exitCode != 0)
+                    throw new IllegalStateException("Shard " + shard + " failed with exit code " + exitCode + ", see " + getLogPath(shard) + ".");
+
+                ShardResult result = ShardResult.read(getResultPath(shard));
+                if (result.getShard() != shard || result.getPlayerCount() != wins.length || result.getSettingsHash() != settingsHash)
+                    throw new IllegalStateException("Shard " + shard + " played a different Season.");
+
+                for (int i = 0; i < wins.length; i++)
+                    wins[i] += result.getWins(i);
+                battleCount += result.getBattleCount();
+                fightCount += result.getFightCount();
+            }
+            merged = true;
+        }
+        finally {
+            if (!merged) {
+                for (Process worker : workers)
+                    worker.destroy();
+            }
+        }
+
+        RoundRobinSchedule schedule = new RoundRobinSchedule(playables.size());
+        Season season = new Season(playables, wins, schedule.getRoundCount() * schedule.getMatchupCount());
+
+        if (eventBus.hasSinks())
+            eventBus.publish(new GameEvent.SeasonEnded(season));
+
+        return season;
+    }
+
+    /**
+     * @return The number of Battles the workers played in the last Season.
+     */
+    public int getBattleCount() { return battleCount; }
+
+    /**
+     * @return The number of Fights the workers played in the last Season.
+     */
+    public long getFightCount() { return fightCount; }
+
+    /**
+     * Launches the worker JVM for a shard, using the same Java runtime and class path as this one.
+     */
+    private Process launchWorker(int shard) throws IOException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Files.deleteIfExists(getResultPath(shard));
+
+        ProcessBuilder processBuilder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ShardWorker.class.getName(),
+                "--file", settingsPath.toAbsolutePath().toString(),
+                "--shard", Integer.toString(shard),
+                "--shards", Integer.toString(shardCount),
+                "--result", getResultPath(shard).toAbsolutePath().toString());
+        processBuilder.redirectErrorStream(true);
+        processBuilder.redirectOutput(getLogPath(shard).toFile());
+
+        return processBuilder.start();
+    }
+
+    private static int waitFor(Process worker) {
+        try {
+            return worker.waitFor();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the shards.", ex);
+        }
+    }
+
+    private Path getResultPath(int shard) { return workDirectory.resolve("shard-" + shard + ".result"); }
+
+    private Path getLogPath(int shard) { return workDirectory.resolve("shard-" + shard + ".log"); }
+}
@@ -0,0 +1,112 @@
+package Control;
+
+import Boundary.IOManager;
+import Entity.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Worker process for a sharded Season. Walks the Season's schedule, numbering every
+ * matchup as the ParallelSeasonController does, and plays the Battles whose number
+ * falls in its shard: those where the Battle number modulo the shard count is the
+ * shard's index. Each Battle is seeded from the game seed and its number, so the
+ * merged results of every shard equal a ParallelSeasonController run of the Season.
+ *
+ * Arguments:
+ *   --file &lt;path&gt;     The HeadlessBattlePets settings file with the seed, Fights per Battle and roster
+ *   --shard &lt;int&gt;     The index of this worker's shard, starting at 0
+ *   --shards &lt;int&gt;    The number of shards
+ *   --result &lt;path&gt;   The file to write the shard's results to
+ */
+public class ShardWorker {
+    private static final String USAGE = "Usage: ShardWorker --file <path> --shard <int> --shards <int> --result <path>";
+
+    public static void main(String[] args) {
+        String settingsPath = null;
+        String resultPath = null;
+        int shard = -1;
+        int shardCount = 0;
+
+        try {
+            for (int i = 0; i + 1 < args.length; i += 2) {
+                switch (args[i]) {
+                    case "--file":
+                        settingsPath = args[i + 1];
+                        break;
+                    case "--shard":
+                        shard = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--shards":
+                        shardCount = Integer.parseInt(args[i + 1]);
+                        break;
+                    case "--result":
+                        resultPath = args[i + 1];
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown setting \"" + args[i] + "\".");
+                }
+            }
+
+            if (settingsPath == null || resultPath == null || shardCount < 1 || shard < 0 || shard >= shardCount)
+                throw new IllegalArgumentException("A settings file, result file and valid shard are required.");
+
+            HeadlessBattlePets settings = new HeadlessBattlePets();
+            settings.parseFile(settingsPath);
+
+            playShard(settings.getPlayables(), settings.getGameSettings(), shard, shardCount).write(Paths.get(resultPath));
+        }
+        catch (IllegalArgumentException | IllegalStateException ex) {
+            IOManager.getInstance().getOutputStream().writeOutput(ex.getMessage() + "\n" + USAGE);
+            System.exit(2);
+        }
+        catch (IOException ex) {
+            IOManager.getInstance().getOutputStream().writeOutput("Unable to write result file \"" + resultPath + "\": " + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Plays every Battle of a shard of the Season.
+     * @param playables The roster of the Season. All of them must be AIPets.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param shard The index of the shard, starting at 0.
+     * @param shardCount The number of shards.
+     * @return The results of the shard.
+     */
+    public static ShardResult playShard(List<Playable> playables, GameSettings gameSettings, int shard, int shardCount) {
+        for (Playable playable : playables) {
+            if (!(playable instanceof AIPet))
+                throw new IllegalArgumentException("Sharded Seasons can only be played by computer players.");
+        }
+
+        Season season = new Season(playables);
+        GameEventBus eventBus = new GameEventBus();
+        int[] wins = new int[playables.size()];
+        int battleCount = 0;
+        long fightCount = 0;
+
+        for (SeasonRound sr : season) {
+            for (int m = 0; m < sr.getMatchupCount(); m++) {
+                season.incrementBattleNumber();
+                int first = sr.getParticipantSlot(m, 0);
+                int second = sr.getParticipantSlot(m, 1);
+
+                if (season.getBattleNumber() % shardCount != shard || first == RoundRobinSchedule.DUMMY_SLOT || second == RoundRobinSchedule.DUMMY_SLOT)
+                    continue;
+
+                List<Playable> matchup = Arrays.asList(playables.get(first), playables.get(second));
+                long battleSeed = Utils.deriveSeed(gameSettings.getSeed(), season.getBattleNumber());
+                Battle battle = ParallelSeasonController.createBattleTask(matchup, battleSeed, gameSettings.getFightsPerBattle(), eventBus).invoke();
+
+                wins[battle.getWinnerIndex() == 0 ? first : second]++;
+                battleCount++;
+                fightCount += battle.getFightList().size();
+            }
+        }
+
+        return new ShardResult(shard, ShardResult.getSettingsHash(playables, gameSettings, shardCount), battleCount, fightCount, wins);
+    }
+}
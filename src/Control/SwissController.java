@@ -0,0 +1,154 @@
+package Control;
+
+import Entity.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Controls the game loop for a Swiss-system tournament. Every round pairs players
+ * with the same score, or as close to it as possible, in 1v1 Battles, so a large
+ * roster is ranked in about log2(n) rounds instead of the n - 1 rounds of a Season.
+ *
+ * Players are ordered by score with a counting sort over the score buckets, and
+ * each player is paired with the first of the next few unpaired players they have
+ * not played yet, so pairing a round costs O(n) rather than an O(n^2) search. An
+ * odd player out of a bucket floats down into the next one.
+ */
+public class SwissController {
+    private static final int PAIRING_WINDOW = 8;
+
+    private SwissTournament tournament;
+    private final BattleController battleController;
+    private final GameEventBus eventBus;
+    private final int roundCount;
+
+    /**
+     * Constructs a new SwissController that plays log2 of the number of players rounds,
+     * rounded up. Tournament events are published to the BattleController's GameEventBus.
+     * @param battleController The BattleController to use for each Battle.
+     */
+    public SwissController(BattleController battleController) {
+        this(battleController, -1);
+    }
+
+    /**
+     * Constructs a new SwissController. Tournament events are published to the
+     * BattleController's GameEventBus.
+     * @param battleController The BattleController to use for each Battle.
+     * @param roundCount The number of rounds to play, or -1 for log2 of the number of players rounded up.
+     */
+    public SwissController(BattleController battleController, int roundCount) {
+        if (roundCount < -1)
+            throw new IllegalArgumentException("The number of rounds cannot be negative.");
+
+        this.battleController = battleController;
+        this.eventBus = battleController.getEventBus();
+        this.roundCount = roundCount;
+    }
+
+    /**
+     * Starts the tournament and plays every round.
+     * @param playables The list of players active in this tournament.
+     * @return The finished tournament, with its standings.
+     */
+    public SwissTournament start(List<Playable> playables) {
+        int rounds = roundCount >= 0 ? roundCount : SwissTournament.getDefaultRoundCount(playables.size());
+        tournament = new SwissTournament(playables, rounds);
+
+        for (int round = 1; round <= rounds; round++) {
+            if (eventBus.hasSinks())
+                eventBus.publish(new GameEvent.SwissRoundStarted(tournament, round));
+
+            int[][] pairs = pairRound();
+            for (int m = 0; m < pairs.length; m++) {
+                int[] pair = pairs[m];
+                tournament.incrementBattleNumber();
+
+                if (pair[1] == RoundRobinSchedule.DUMMY_SLOT) {
+                    tournament.awardBye(pair[0]);
+                    if (eventBus.hasSinks())
+                        eventBus.publish(new GameEvent.SeasonBye(playables.get(pair[0]), m + 1));
+                    continue;
+                }
+
+                List<Playable> matchup = Arrays.asList(playables.get(pair[0]), playables.get(pair[1]));
+                tournament.addPairing(pair[0], pair[1]);
+
+                if (eventBus.hasSinks())
+                    eventBus.publish(new GameEvent.SeasonBattleStarted(matchup, m + 1));
+
+                Battle battle = battleController.start(matchup);
+                tournament.getBattleList().add(battle);
+
+                if (eventBus.hasSinks())
+                    eventBus.publish(new GameEvent.SeasonBattleEnded(battle, m + 1));
+                tournament.incrementScore(pair[battle.getWinnerIndex()]);
+            }
+        }
+
+        if (eventBus.hasSinks())
+            eventBus.publish(new GameEvent.SwissEnded(tournament));
+
+        return tournament;
+    }
+
+    /**
+     * Pairs every player for the next round. With an odd number of players, the lowest
+     * ranked player who has not had a bye yet receives one, as the last pair of the round.
+     * @return The slots of each pair, with RoundRobinSchedule.DUMMY_SLOT as the opponent of a bye.
+     */
+    private int[][] pairRound() {
+        int[] standings = tournament.getStandingSlots();
+        int playerCount = standings.length;
+        int[][] pairs = new int[(playerCount + 1) / 2][];
+        boolean[] paired = new boolean[playerCount];
+
+        if (playerCount % 2 != 0) {
+            int byePosition = playerCount - 1;
+            while (byePosition > 0 && tournament.hasHadBye(standings[byePosition]))
+                byePosition--;
+
+            paired[byePosition] = true;
+            pairs[pairs.length - 1] = new int[] { standings[byePosition], RoundRobinSchedule.DUMMY_SLOT };
+        }
+
+        int pairCount = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (paired[i])
+                continue;
+            paired[i] = true;
+
+            int opponent = findOpponent(standings, paired, i);
+            paired[opponent] = true;
+            pairs[pairCount++] = new int[] { standings[i], standings[opponent] };
+        }
+
+        return pairs;
+    }
+
+    /**
+     * Finds the best opponent for the player at a position of the standings: the first of
+     * the next PAIRING_WINDOW unpaired players they have not played, or the next unpaired
+     * player if they have played all of them.
+     * @return The position of the opponent in the standings.
+     */
+    private int findOpponent(int[] standings, boolean[] paired, int position) {
+        int first = -1;
+        int candidates = 0;
+
+        for (int j = position + 1; j < standings.length && candidates < PAIRING_WINDOW; j++) {
+            if (paired[j])
+                continue;
+
+            if (!tournament.havePlayed(standings[position], standings[j]))
+                return j;
+
+            if (first < 0)
+                first = j;
+            candidates++;
+        }
+
+        return first;
+    }
+}
@@ -0,0 +1,210 @@
+package Control;
+
+import Boundary.IOManager;
+import Entity.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Displays GameEvents as text on a game session's output stream. This is the only
+ * place display text for Rounds, Fights, Battles and Seasons is built.
+ */
+public class TextEventSink implements GameEventSink {
+    private final IOManager ioManager;
+
+    /**
+     * Constructs a new TextEventSink that displays on the shared Console IOManager.
+     */
+    public TextEventSink() {
+        this(IOManager.getInstance());
+    }
+
+    /**
+     * Constructs a new TextEventSink.
+     * @param ioManager The IOManager of the game session to display on.
+     */
+    public TextEventSink(IOManager ioManager) {
+        this.ioManager = ioManager;
+    }
+
+    /**
+     * Displays the pet stats of HP and recharge times at the beginning of each round, the order of these is displayed based
+     * on the amount of HP each pet has. Higher HP's appear at the top.
+     */
+    @Override
+    public void onRoundStarted(GameEvent.RoundStarted event) {
+        List<Playable> hpOrderedPlayables = new ArrayList<>(event.getActivePlayers());
+        hpOrderedPlayables.sort(Comparator.comparingDouble(Playable::getCurrentHp));
+
+        ioManager.getOutputStream().writeOutput("\nRound #" + event.getRoundNumber());
+
+        for (Playable p : hpOrderedPlayables) {
+            ioManager.getOutputStream().writeOutput(p.getPetName() + "'s Info:");
+            ioManager.getOutputStream().writeOutput("HP: " + p.getCurrentHp());
+            ioManager.getOutputStream().writeOutput("Rock Throw Recharge: " + p.getSkillRechargeTime(Skills.ROCK_THROW));
+            ioManager.getOutputStream().writeOutput("Scissor Poke Recharge: " + p.getSkillRechargeTime(Skills.SCISSORS_POKE));
+            ioManager.getOutputStream().writeOutput("Paper Cut Recharge: " + p.getSkillRechargeTime(Skills.PAPER_CUT));
+            ioManager.getOutputStream().writeOutput("Shoot the Moon Recharge: " + p.getSkillRechargeTime(Skills.SHOOT_THE_MOON));
+            ioManager.getOutputStream().writeOutput("Reversal of Fortune Recharge: " + p.getSkillRechargeTime(Skills.REVERSAL_OF_FORTUNE) + "\n");
+        }
+    }
+
+    /**
+     * Writes a prompt followed by the numbered list of all Skills.
+     */
+    @Override
+    public void onSkillRequested(GameEvent.SkillRequested event) {
+        if (event.isPrediction())
+            ioManager.getOutputStream().writeOutput(event.getPlayer().getPetName() + ", please predict your opponent's Skill:");
+        else
+            ioManager.getOutputStream().writeOutput(event.getPlayer().getPetName() + ", please select a Skill:");
+
+        Skills[] skills = Skills.values();
+        for (int i = 0; i < skills.length; i++)
+            ioManager.getOutputStream().writeOutput("\t" + (i + 1) + ") " + skills[i].toString());
+    }
+
+    @Override
+    public void onSkillRecharging(GameEvent.SkillRecharging event) {
+        ioManager.getOutputStream().writeOutput("That Skill needs to finish recharging before being used again.");
+    }
+
+    /**
+     * Displays the amount of damage a pet dealt at the end of a round.
+     */
+    @Override
+    public void onDamageDealt(GameEvent.DamageDealt event) {
+        String petName = event.getPlayer().getPetName();
+
+        ioManager.getOutputStream().writeOutput(petName + "'s Skill Chosen: " + event.getSkill());
+        ioManager.getOutputStream().writeOutput(petName + "'s Random Damage Dealt: " + event.getRandomDamage());
+        ioManager.getOutputStream().writeOutput(petName + "'s Conditional Damage Dealt: " + event.getConditionalDamage());
+        ioManager.getOutputStream().writeOutput(petName + "'s Total Damage Dealt: " + event.getTotalDamage());
+        ioManager.getOutputStream().writeOutput(petName + "'s Random Damage Difference: " +
+                (event.getRandomDamage() - event.getRandomDamageTaken()) + "\n");
+    }
+
+    /**
+     * Displays what fight number is beginning and which pets are fighting.
+     */
+    @Override
+    public void onFightStarted(GameEvent.FightStarted event) {
+        Battle battle = event.getBattle();
+        ioManager.getOutputStream().writeOutput("\nFight " + event.getFightNumber() + " out of " + battle.getNumFights() +
+                                                "\nPets currently fighting:");
+
+        for (Playable player : battle.getPlayers()) {
+            if (player.getPetType() == PetTypes.INTELLIGENCE)
+                ioManager.getOutputStream().writeOutput("\t" + player.getPetName() + " (an " + player.getPetType().toString() + " Type)");
+            else
+                ioManager.getOutputStream().writeOutput("\t" + player.getPetName() + " (a " + player.getPetType().toString() + " Type)");
+        }
+    }
+
+    @Override
+    public void onFightEnded(GameEvent.FightEnded event) {
+        ioManager.getOutputStream().writeOutput(event.getWinner().getPetName() + " won Fight #" + event.getFightNumber() + "!");
+    }
+
+    /**
+     * Displays the number of fights that each pet won and the winner of the battle.
+     */
+    @Override
+    public void onBattleEnded(GameEvent.BattleEnded event) {
+        Battle battle = event.getBattle();
+
+        ioManager.getOutputStream().writeOutput("\nThe Battle has ended! \nPet Win Counts: \n");
+        for (int i = 0; i < battle.getPlayers().size(); i++)
+        {
+            ioManager.getOutputStream().writeOutput(battle.getPlayers().get(i).getPetName() +
+                    ": " + battle.getWins(i) + " wins");
+        }
+
+        ioManager.getOutputStream().writeOutput("\n" + battle.getWinner().getPetName() + " won the Battle!");
+    }
+
+    @Override
+    public void onSeasonRoundStarted(GameEvent.SeasonRoundStarted event) {
+        ioManager.getOutputStream().writeOutput("Season Round #" + event.getRoundNumber());
+    }
+
+    /**
+     * Displays the current Battle number and its participants.
+     */
+    @Override
+    public void onSeasonBattleStarted(GameEvent.SeasonBattleStarted event) {
+        ioManager.getOutputStream().writeOutput("\nSeason Battle #" + event.getBattleNumber() + "\nCurrent matchup:");
+
+        for (Playable player : event.getPlayers()) {
+            ioManager.getOutputStream().writeOutput(player.getPetName());
+        }
+    }
+
+    @Override
+    public void onSeasonBattleEnded(GameEvent.SeasonBattleEnded event) {
+        ioManager.getOutputStream().writeOutput(event.getBattle().getWinner().getPetName() + " won Season Battle #" + event.getBattleNumber() + "!");
+    }
+
+    @Override
+    public void onSeasonBye(GameEvent.SeasonBye event) {
+        ioManager.getOutputStream().writeOutput("\nSeason Battle #" + event.getBattleNumber() + "\n" + event.getPlayer().getPetName() + " received a Bye!");
+    }
+
+    /**
+     * Displays the number of Battles that each Playable won and the winner of the Season.
+     */
+    @Override
+    public void onSeasonEnded(GameEvent.SeasonEnded event) {
+        Season season = event.getSeason();
+
+        ioManager.getOutputStream().writeOutput("\nThe Season has ended! \nPet Win Counts: \n");
+        for (int i = 0; i < season.getPlayers().size(); i++)
+        {
+            ioManager.getOutputStream().writeOutput(season.getPlayers().get(i).getPetName() + ": " + season.getWins(i) + " wins");
+        }
+
+        ioManager.getOutputStream().writeOutput("\n" + season.getWinner().getPetName() + " won the Season!");
+    }
+
+    @Override
+    public void onSwissRoundStarted(GameEvent.SwissRoundStarted event) {
+        ioManager.getOutputStream().writeOutput("\nSwiss Round #" + event.getRoundNumber() + " out of " + event.getTournament().getRoundCount());
+    }
+
+    /**
+     * Displays the score of every Playable in order of the standings and the winner of the tournament.
+     */
+    @Override
+    public void onSwissEnded(GameEvent.SwissEnded event) {
+        SwissTournament tournament = event.getTournament();
+        int[] standings = tournament.getStandingSlots();
+
+        ioManager.getOutputStream().writeOutput("\nThe Swiss tournament has ended! \nStandings: \n");
+        for (int i = 0; i < standings.length; i++)
+        {
+            ioManager.getOutputStream().writeOutput((i + 1) + ") " + tournament.getPlayers().get(standings[i]).getPetName() +
+                    ": " + tournament.getScore(standings[i]) + " points");
+        }
+
+        ioManager.getOutputStream().writeOutput("\n" + tournament.getWinner().getPetName() + " won the Swiss tournament!");
+    }
+
+    @Override
+    public void onBracketLevelStarted(GameEvent.BracketLevelStarted event) {
+        ioManager.getOutputStream().writeOutput("\n" + event.getBracket().getType() + " Bracket Level #" + event.getLevelNumber());
+    }
+
+    /**
+     * Displays the number of Battles played and the champion of the Bracket.
+     */
+    @Override
+    public void onBracketEnded(GameEvent.BracketEnded event) {
+        Bracket bracket = event.getBracket();
+
+        ioManager.getOutputStream().writeOutput("\nThe Bracket has ended after " + bracket.getBattleCount() + " Battles!");
+        if (bracket.getChampion() != null)
+            ioManager.getOutputStream().writeOutput(bracket.getChampion().getPetName() + " won the Bracket!");
+    }
+}
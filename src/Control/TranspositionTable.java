@@ -0,0 +1,145 @@
+package Control;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size table of searched positions for the ExpectimaxSearch, so positions reached
+ * through different move orders, or already searched for an earlier move, are not searched
+ * again. Entries are kept in primitive arrays and the table never grows: each key maps to a
+ * pair of neighbouring entries, and storing into a full pair evicts an entry left by an
+ * earlier search before the shallower of the two entries.
+ */
+public class TranspositionTable {
+    public static final int NOT_FOUND = -1;
+
+    private final long[] keys;
+    private final double[] values;
+    private final byte[] depths;
+    private final byte[] bestActions;
+    private final int[] generations;
+    private final int mask;
+    private int generation;
+    private int size;
+
+    /**
+     * Constructs a new TranspositionTable.
+     * @param capacity The maximum number of entries, rounded up to a power of two.
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30)
+            throw new IllegalArgumentException("The table capacity must be between 2 and " + (1 << 30) + ".");
+
+        int entries = Integer.highestOneBit(capacity - 1) << 1;
+        keys = new long[entries];
+        values = new double[entries];
+        depths = new byte[entries];
+        bestActions = new byte[entries];
+        generations = new int[entries];
+        mask = entries - 1;
+    }
+
+    /**
+     * Starts a new search. Entries stored by earlier searches can still be found, but are
+     * evicted before any entry of the new search.
+     */
+    public void nextGeneration() {
+        generation++;
+    }
+
+    /**
+     * Looks up a position.
+     * @param key The hash of the position.
+     * @return The index of the position's entry, or NOT_FOUND.
+     */
+    public int probe(long key) {
+        int index = (int) key & mask;
+        if (depths[index] != 0 && keys[index] == key)
+            return index;
+
+        index ^= 1;
+        if (depths[index] != 0 && keys[index] == key)
+            return index;
+
+        return NOT_FOUND;
+    }
+
+    /**
+     * @param index The index of an entry returned by probe.
+     * @return The number of rounds the position was searched ahead.
+     */
+    public int getDepth(int index) { return depths[index]; }
+
+    /**
+     * @param index The index of an entry returned by probe.
+     * @return The expected value of the position.
+     */
+    public double getValue(int index) { return values[index]; }
+
+    /**
+     * @param index The index of an entry returned by probe.
+     * @return The best action found for the position.
+     */
+    public int getBestAction(int index) { return bestActions[index]; }
+
+    /**
+     * Stores the result of searching a position, replacing the position's earlier entry if it
+     * has one and otherwise evicting one of the two entries the key maps to.
+     * @param key The hash of the position.
+     * @param depth The number of rounds searched ahead, between 1 and 127.
+     * @param value The expected value of the position.
+     * @param bestAction The best action found, between 0 and 127.
+     */
+    public void store(long key, int depth, double value, int bestAction) {
+        int first = (int) key & mask;
+        int second = first ^ 1;
+        int index;
+
+        if (depths[first] != 0 && keys[first] == key)
+            index = first;
+        else if (depths[second] != 0 && keys[second] == key)
+            index = second;
+        else if (depths[first] == 0 || depths[second] == 0)
+            index = depths[first] == 0 ? first : second;
+        else
+            index = evictionPriority(first) >= evictionPriority(second) ? first : second;
+
+        // Keep a deeper result of the same search over a shallower one
+        if (depths[index] != 0 && keys[index] == key && generations[index] == generation && depths[index] > depth)
+            return;
+
+        if (depths[index] == 0)
+            size++;
+
+        keys[index] = key;
+        values[index] = value;
+        depths[index] = (byte) depth;
+        bestActions[index] = (byte) bestAction;
+        generations[index] = generation;
+    }
+
+    /**
+     * Ranks how readily an occupied entry is evicted: entries of earlier searches first, then
+     * the shallowest entries.
+     */
+    private int evictionPriority(int index) {
+        return (generations[index] != generation ? 128 : 0) + 127 - depths[index];
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void clear() {
+        Arrays.fill(depths, (byte) 0);
+        size = 0;
+    }
+
+    /**
+     * @return The number of occupied entries.
+     */
+    public int size() { return size; }
+
+    /**
+     * @return The maximum number of entries.
+     */
+    public int getCapacity() { return keys.length; }
+}
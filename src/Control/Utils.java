@@ -1,62 +1,81 @@
-package Control;
-
-import Entity.Playable;
-
-import java.util.ArrayList;
-import java.util.List;
-
-public class Utils
-{
-	/**
-	 * turn underscores into spaces
-	 * capitalize first letter of each word
-	 * 
-	 * @param rawName String from enum.name()
-	 * @return 
-	 */
-	public static String convertEnumString(String rawName)
-	{
-		// Assumes rawName is not null, will throw NPE otherwise
-		// Choosing not to explicitly handle this since it would be programmer error anyway
-		
-		String lowerCaseName = rawName.toLowerCase();
-		String[] wordArray = lowerCaseName.split("_");
-		StringBuilder printNameBuilder = new StringBuilder();
-		
-		for(int i=0; i<wordArray.length; i++)
-		{
-			String word = wordArray[i];
-			
-			if(!word.isEmpty())
-			{
-				String firstLetter = word.substring(0, 1);
-				String remainingWord = word.substring(1);
-				
-				printNameBuilder.append(firstLetter.toUpperCase() + remainingWord);
-				
-				if(i < wordArray.length-1)
-				{
-					printNameBuilder.append(" ");
-				}
-			}
-		}
-		
-		return printNameBuilder.toString();
-	}
-
-	/**
-	 * Turns an array into an array list
-	 *
-	 * @param players Playable[]
-	 * @return ArrayList<Playable>
-	 */
-	public static List<Playable> arrayToList(Playable[] players)
-	{
-		List<Playable> newPlayers = new ArrayList<>();
-
-		for (int i = 0; i < players.length; i++)
-			newPlayers.add(players[i]);
-
-		return newPlayers;
-	}
-}
+package Control;
+
+import Entity.Playable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Utils
+{
+	private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * turn underscores into spaces
+	 * capitalize first letter of each word
+	 * 
+	 * @param rawName String from enum.name()
+	 * @return 
+	 */
+	public static String convertEnumString(String rawName)
+	{
+		// Assumes rawName is not null, will throw NPE otherwise
+		// Choosing not to explicitly handle this since it would be programmer error anyway
+		
+		String lowerCaseName = rawName.toLowerCase();
+		String[] wordArray = lowerCaseName.split("_");
+		StringBuilder printNameBuilder = new StringBuilder();
+		
+		for(int i=0; i<wordArray.length; i++)
+		{
+			String word = wordArray[i];
+			
+			if(!word.isEmpty())
+			{
+				String firstLetter = word.substring(0, 1);
+				String remainingWord = word.substring(1);
+				
+				printNameBuilder.append(firstLetter.toUpperCase() + remainingWord);
+				
+				if(i < wordArray.length-1)
+				{
+					printNameBuilder.append(" ");
+				}
+			}
+		}
+		
+		return printNameBuilder.toString();
+	}
+
+	/**
+	 * Derives an independent seed for one stream of random numbers (such as a single
+	 * Battle) from a game seed, using the SplitMix64 finalizer. The same game seed and
+	 * stream number always produce the same seed.
+	 *
+	 * @param seed The game seed
+	 * @param stream The number of the stream to derive a seed for
+	 * @return The derived seed
+	 */
+	public static long deriveSeed(long seed, long stream)
+	{
+		long z = seed + (stream + 1) * GOLDEN_GAMMA;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Turns an array into an array list
+	 *
+	 * @param players Playable[]
+	 * @return ArrayList<Playable>
+	 */
+	public static List<Playable> arrayToList(Playable[] players)
+	{
+		List<Playable> newPlayers = new ArrayList<>();
+
+		for (int i = 0; i < players.length; i++)
+			newPlayers.add(players[i]);
+
+		return newPlayers;
+	}
+}
@@ -1,256 +1,347 @@
-package Entity;
-
-import java.util.EnumMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Random;
-
-public class AIPet implements Playable {
-    private Player player;
-    private String name;
-    private PetTypes type;
-    private double startingHp;
-    private double currHp;
-    private Map<Skills, Skill> skillMap;
-    private Random randomNumber;
-
-    /**
-     * private constructor for AIPet that utilizes the Builder pattern.
-     * @param: an object of AIPetBuilder (from the Builder Pattern).
-     */
-    private AIPet(AIPetBuilder aiPetBuilder) {
-        //state validations
-        if (aiPetBuilder.player == null)
-            throw new IllegalStateException("The player attribute cannot be null");
-        if (aiPetBuilder.name == null)
-            throw new IllegalStateException("The pet name cannot be null");
-        if (aiPetBuilder.type == null)
-            throw new IllegalStateException("The pet type cannot be null");
-        if (aiPetBuilder.startingHp <= 0)
-            throw new IllegalStateException("The pet's starting HP must be greater than zero");
-
-        //initialize attribute values
-        this.player = aiPetBuilder.player;
-        this.name = aiPetBuilder.name;
-        this.type = aiPetBuilder.type;
-        this.startingHp = aiPetBuilder.startingHp;
-        this.currHp = startingHp;
-
-        // initialize Skills HashMap and fill it.
-        skillMap = new EnumMap<>(Skills.class);
-        skillMap.put(Skills.ROCK_THROW, new RockThrow());
-        skillMap.put(Skills.SCISSORS_POKE, new ScissorPoke());
-        skillMap.put(Skills.PAPER_CUT, new PaperCut());
-        skillMap.put(Skills.REVERSAL_OF_FORTUNE, new ReversalOfFortune());
-        skillMap.put(Skills.SHOOT_THE_MOON, new ShootTheMoon());
-
-        // seeds the random number generator
-        randomNumber = new Random(aiPetBuilder.seed);
-    }
-
-    @Override
-    public String getPlayerName() {
-        return this.player.getName();
-    }
-
-    @Override
-    public String getPetName() {
-        return this.name;
-    }
-
-    @Override
-    public PlayerTypes getPlayerType() {
-        return this.player.getType();
-    }
-
-    @Override
-    public PetTypes getPetType() {
-        return this.type;
-    }
-
-    @Override
-    public double getCurrentHp() {
-        return this.currHp;
-    }
-
-    /**
-     * The AIPet will execute this to return a random skill to use
-     * @return Returns the chosen skill
-     */
-    @Override
-    public Skills chooseSkill() {
-        // Choose a random skill
-        return Skills.values()[randomNumber.nextInt(skillMap.size())];
-    }
-
-    /**
-     * This method is called by the game controlling classes to update their AIPet's hp based on the damage inflicted
-     *
-     * @param hp: a double to subtract the pet's hp by
-     */
-    @Override
-    public void updateHp(double hp) {
-        this.currHp -= hp;
-    }
-
-    /**
-     * Resets the AIPet's current hp to its starting hp
-     */
-    @Override
-    public void resetHp() {
-        this.currHp = startingHp;
-    }
-
-    /**
-     * Sets the AIPet's hp to the provided value
-     */
-    @Override
-    public void setCurrentHp(double currentHp) {
-        this.currHp = currentHp;
-    }
-
-    /**
-     * @return: Returns true if the AIPet's hp > 0, false otherwise
-     */
-    @Override
-    public boolean isAwake() {
-        return this.currHp > 0;
-    }
-
-    /**
-     * This method is invoked when a player chooses the Shoot the Moon skill and must make a prediction for
-     * their opponent's next move.
-     */
-    @Override
-    public Skills getSkillPrediction()
-    {
-        // Choose a random skill
-        return Skills.values()[randomNumber.nextInt(skillMap.size())];
-    }
-
-    /**
-     * @return: Returns the current recharge time for the provided skill enumeration
-     */
-    @Override
-    public int getSkillRechargeTime(Skills skill) {
-        return this.skillMap.get(skill).getCurrentRecharge();
-    }
-
-    /**
-     * This is somewhat of a convenience method, since there are methods to get the starting hp and current hp
-     * @return: Returns the pet's current percent of hp
-     */
-    @Override
-    public double calculateHpPercent() {
-        return (currHp / startingHp);
-    }
-
-    /**
-     * @return: Returns the AIPet's starting hp
-     */
-    @Override
-    public double getStartingHp() {
-        return this.startingHp;
-    }
-
-    /**
-     * Called by the game controlling classes.
-     * Resets the AIPet's hp to its starting hp
-     * Resets all skills to what they were at the start of the fight
-     */
-    @Override
-    public void reset() {
-        this.resetHp();
-
-        for (Skills skillType : skillMap.keySet())
-            this.setRechargeTime(skillType, 0);
-    }
-
-    /**
-     * Decrements the recharge times for all recharging skills
-     */
-    @Override
-    public void decrementRechargeTimes() {
-        for (Skills skillType : skillMap.keySet())
-            this.setRechargeTime(skillType, this.getSkillRechargeTime(skillType) - 1);
-    }
-
-    /**
-     * Sets the recharge time for the given skill
-     */
-    @Override
-    public void setRechargeTime(Skills skill, int rechargeTime) {
-        this.skillMap.get(skill).setCurrentRecharge(rechargeTime);
-    }
-
-    /**
-     * Compares AIPets for equality.
-     * @param o The other Object.
-     * @return True if values are equal, false otherwise
-     */
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        AIPet aiPet = (AIPet) o;
-        return Double.compare(aiPet.startingHp, startingHp) == 0 && Objects.equals(player, aiPet.player) && Objects.equals(name, aiPet.name) && type == aiPet.type;
-    }
-
-    /**
-     * Generates a unique hash associated with this AIPet instance.
-     * @return The unique integer hash
-     */
-    @Override
-    public int hashCode() {
-        return Objects.hash(player, name, type, startingHp);
-    }
-
-    // -------------------------- PET BUILDER CLASS ------------------------- \\
-
-    /**
-     * The builder class for AIPets
-     */
-    public static class AIPetBuilder {
-        private Player player;
-        private String name;
-        private PetTypes type;
-        private double startingHp;
-        private int seed;
-
-        public AIPetBuilder() {
-
-        }
-
-        public AIPet build() {
-            return new AIPet(this);
-        }
-
-        public AIPetBuilder withPlayer(Player player) {
-            this.player = player;
-            return this;
-        }
-
-        public AIPetBuilder withName(String name) {
-            this.name = name;
-            return this;
-        }
-
-        public AIPetBuilder withType(PetTypes type) {
-            this.type = type;
-            return this;
-        }
-
-        public AIPetBuilder withStartingHp(double startingHp) {
-            this.startingHp = startingHp;
-            return this;
-        }
-
-        public AIPetBuilder withSeed(int seed){
-            this.seed = seed;
-            return this;
-        }
-    }
-}
-
-
-
+package Entity;
+
+import Control.RestorableRandom;
+
+import java.util.Objects;
+
+public class AIPet implements Playable {
+    private static final Skills[] SKILLS = Skills.values();
+    private static final int SKILL_COUNT = SKILLS.length;
+    private static final int ALL_SKILLS = (1 << SKILL_COUNT) - 1;
+
+    private Player player;
+    private String name;
+    private PetTypes type;
+    private double startingHp;
+    private double currHp;
+    private long rechargeTimes;
+    private final int seed;
+    private RestorableRandom randomNumber;
+    private boolean legacySkillSelection;
+
+    /**
+     * private constructor for AIPet that utilizes the Builder pattern.
+     * @param: an object of AIPetBuilder (from the Builder Pattern).
+     */
+    private AIPet(AIPetBuilder aiPetBuilder) {
+        //state validations
+        if (aiPetBuilder.player == null)
+            throw new IllegalStateException("The player attribute cannot be null");
+        if (aiPetBuilder.name == null)
+            throw new IllegalStateException("The pet name cannot be null");
+        if (aiPetBuilder.type == null)
+            throw new IllegalStateException("The pet type cannot be null");
+        if (aiPetBuilder.startingHp <= 0)
+            throw new IllegalStateException("The pet's starting HP must be greater than zero");
+
+        //initialize attribute values
+        this.player = aiPetBuilder.player;
+        this.name = aiPetBuilder.name;
+        this.type = aiPetBuilder.type;
+        this.startingHp = aiPetBuilder.startingHp;
+        this.currHp = startingHp;
+
+        // no Skills are recharging at the start
+        this.rechargeTimes = RechargeTimes.NONE;
+
+        // seeds the random number generator
+        this.seed = aiPetBuilder.seed;
+        randomNumber = new RestorableRandom(seed);
+        this.legacySkillSelection = aiPetBuilder.legacySkillSelection;
+    }
+
+    @Override
+    public String getPlayerName() {
+        return this.player.getName();
+    }
+
+    @Override
+    public String getPetName() {
+        return this.name;
+    }
+
+    @Override
+    public PlayerTypes getPlayerType() {
+        return this.player.getType();
+    }
+
+    @Override
+    public PetTypes getPetType() {
+        return this.type;
+    }
+
+    @Override
+    public double getCurrentHp() {
+        return this.currHp;
+    }
+
+    /**
+     * The AIPet will execute this to return a random skill to use
+     * @return Returns the chosen skill
+     */
+    @Override
+    public Skills chooseSkill() {
+        // Choose a random skill
+        return SKILLS[randomNumber.nextInt(SKILL_COUNT)];
+    }
+
+    /**
+     * The AIPet will execute this to return a random skill out of those that are not recharging.
+     * The skill is drawn uniformly from the available skills with a single random number, unless
+     * legacy skill selection is enabled, in which case skills are drawn from every skill until one
+     * is available, reproducing the choices of earlier versions for the same seed.
+     * @param rechargingSkills The mask of recharging skills, with bit i set for the skill with ordinal i
+     * @return Returns the chosen skill
+     */
+    public Skills chooseAvailableSkill(int rechargingSkills) {
+        int available = ~rechargingSkills & ALL_SKILLS;
+        if (available == 0)
+            throw new IllegalStateException("Every skill of " + name + " is recharging");
+
+        if (legacySkillSelection) {
+            Skills skill;
+            do {
+                skill = chooseSkill();
+            } while ((available & (1 << skill.ordinal())) == 0);
+            return skill;
+        }
+
+        // Clear the lowest available skills until the chosen one is the lowest left
+        for (int skipped = randomNumber.nextInt(Integer.bitCount(available)); skipped > 0; skipped--)
+            available &= available - 1;
+
+        return SKILLS[Integer.numberOfTrailingZeros(available)];
+    }
+
+    /**
+     * This method is called by the game controlling classes to update their AIPet's hp based on the damage inflicted
+     *
+     * @param hp: a double to subtract the pet's hp by
+     */
+    @Override
+    public void updateHp(double hp) {
+        this.currHp -= hp;
+    }
+
+    /**
+     * Resets the AIPet's current hp to its starting hp
+     */
+    @Override
+    public void resetHp() {
+        this.currHp = startingHp;
+    }
+
+    /**
+     * Sets the AIPet's hp to the provided value
+     */
+    @Override
+    public void setCurrentHp(double currentHp) {
+        this.currHp = currentHp;
+    }
+
+    /**
+     * @return: Returns true if the AIPet's hp > 0, false otherwise
+     */
+    @Override
+    public boolean isAwake() {
+        return this.currHp > 0;
+    }
+
+    /**
+     * This method is invoked when a player chooses the Shoot the Moon skill and must make a prediction for
+     * their opponent's next move.
+     */
+    @Override
+    public Skills getSkillPrediction()
+    {
+        // Choose a random skill
+        return SKILLS[randomNumber.nextInt(SKILL_COUNT)];
+    }
+
+    /**
+     * @return: Returns the current recharge time for the provided skill enumeration
+     */
+    @Override
+    public int getSkillRechargeTime(Skills skill) {
+        return RechargeTimes.get(this.rechargeTimes, skill);
+    }
+
+    /**
+     * @return: Returns the mask of all skills that are currently recharging
+     */
+    @Override
+    public int getRechargingSkills() {
+        return RechargeTimes.getRechargingSkills(this.rechargeTimes);
+    }
+
+    /**
+     * This is somewhat of a convenience method, since there are methods to get the starting hp and current hp
+     * @return: Returns the pet's current percent of hp
+     */
+    @Override
+    public double calculateHpPercent() {
+        return (currHp / startingHp);
+    }
+
+    /**
+     * @return: Returns the AIPet's starting hp
+     */
+    @Override
+    public double getStartingHp() {
+        return this.startingHp;
+    }
+
+    /**
+     * Called by the game controlling classes.
+     * Resets the AIPet's hp to its starting hp
+     * Resets all skills to what they were at the start of the fight
+     */
+    @Override
+    public void reset() {
+        this.resetHp();
+        this.rechargeTimes = RechargeTimes.NONE;
+    }
+
+    /**
+     * Decrements the recharge times for all recharging skills
+     */
+    @Override
+    public void decrementRechargeTimes() {
+        this.rechargeTimes = RechargeTimes.decrementAll(this.rechargeTimes);
+    }
+
+    /**
+     * Sets the recharge time for the given skill
+     */
+    @Override
+    public void setRechargeTime(Skills skill, int rechargeTime) {
+        this.rechargeTimes = RechargeTimes.set(this.rechargeTimes, skill, rechargeTime);
+    }
+
+    /**
+     * @return The seed the AIPet was built with. Reseeding the random number generator does not change it.
+     */
+    public int getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reseeds the random number generator used to choose skills and predictions.
+     * @param seed The new seed
+     */
+    public void setSeed(long seed) {
+        this.randomNumber.setSeed(seed);
+    }
+
+    /**
+     * @return True if skills are chosen with the uniform-with-retry draws of earlier versions
+     */
+    public boolean isLegacySkillSelection() {
+        return legacySkillSelection;
+    }
+
+    /**
+     * Switches between drawing only from available skills and the uniform-with-retry draws of
+     * earlier versions, which historical seeds need to reproduce their games.
+     * @param legacySkillSelection True to retry uniform draws until a skill is available
+     */
+    public void setLegacySkillSelection(boolean legacySkillSelection) {
+        this.legacySkillSelection = legacySkillSelection;
+    }
+
+    /**
+     * @return The state of the random number generator, for checkpointing.
+     */
+    public long getRandomState() {
+        return randomNumber.getState();
+    }
+
+    /**
+     * Restores the random number generator to a state returned by getRandomState().
+     * @param state The saved state
+     */
+    public void setRandomState(long state) {
+        this.randomNumber.setState(state);
+    }
+
+    /**
+     * Compares AIPets for equality.
+     * @param o The other Object.
+     * @return True if values are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AIPet aiPet = (AIPet) o;
+        return Double.compare(aiPet.startingHp, startingHp) == 0 && Objects.equals(player, aiPet.player) && Objects.equals(name, aiPet.name) && type == aiPet.type;
+    }
+
+    /**
+     * Generates a unique hash associated with this AIPet instance.
+     * @return The unique integer hash
+     */
+    @Override
+    public int hashCode() {
+        // Same value as Objects.hash(player, name, type, startingHp), without the varargs array and boxing
+        int result = 31 + Objects.hashCode(player);
+        result = 31 * result + Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(type);
+        return 31 * result + Double.hashCode(startingHp);
+    }
+
+    // -------------------------- PET BUILDER CLASS ------------------------- \\
+
+    /**
+     * The builder class for AIPets
+     */
+    public static class AIPetBuilder {
+        private Player player;
+        private String name;
+        private PetTypes type;
+        private double startingHp;
+        private int seed;
+        private boolean legacySkillSelection;
+
+        public AIPetBuilder() {
+
+        }
+
+        public AIPet build() {
+            return new AIPet(this);
+        }
+
+        public AIPetBuilder withPlayer(Player player) {
+            this.player = player;
+            return this;
+        }
+
+        public AIPetBuilder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public AIPetBuilder withType(PetTypes type) {
+            this.type = type;
+            return this;
+        }
+
+        public AIPetBuilder withStartingHp(double startingHp) {
+            this.startingHp = startingHp;
+            return this;
+        }
+
+        public AIPetBuilder withSeed(int seed){
+            this.seed = seed;
+            return this;
+        }
+
+        public AIPetBuilder withLegacySkillSelection(boolean legacySkillSelection) {
+            this.legacySkillSelection = legacySkillSelection;
+            return this;
+        }
+    }
+}
+
+
+
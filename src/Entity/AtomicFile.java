@@ -0,0 +1,54 @@
+package Entity;
+
+import java.io.*;
+import java.nio.file.*;
+
+/**
+ * Writes small binary files so that readers only ever see a complete file. The contents
+ * are written to a temporary file beside the target, forced to disk and then moved over
+ * the target, so a crash while writing leaves either the old file or the new one.
+ */
+public final class AtomicFile {
+    /**
+     * Writes the contents of a file.
+     */
+    @FunctionalInterface
+    public interface Contents {
+        void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private AtomicFile() {
+
+    }
+
+    /**
+     * Writes a file, replacing any earlier file at the same path only once the new one is completely on disk.
+     * @param path The file to write.
+     * @param contents Writes the file's contents.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(Path path, Contents contents) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                contents.writeTo(out);
+
+                out.flush();
+                file.getFD().sync();
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            }
+            catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Entity;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The Bracket class is created by the BracketController and keeps track of an
+ * elimination tournament: how many Battles each player has lost, the level at
+ * which each player was eliminated, and the champion. Finished Battles are only
+ * counted, never kept, so a Bracket holds O(n) state however many Battles it takes.
+ */
+public class Bracket
+{
+    private final List<Playable> players;
+    private final BracketTypes type;
+    private final int[] losses;
+    private final int[] eliminationLevels;
+    private int levelCount;
+    private int battleCount;
+    private long fightCount;
+    private int championSlot;
+
+    /**
+     * @param players the players participating in the Bracket
+     * @param type whether a player is eliminated after one or two lost Battles
+     */
+    public Bracket(List<Playable> players, BracketTypes type)
+    {
+        this.players = players;
+        this.type = type;
+        this.losses = new int[players.size()];
+        this.eliminationLevels = new int[players.size()];
+        Arrays.fill(this.eliminationLevels, -1);
+        this.levelCount = 0;
+        this.battleCount = 0;
+        this.fightCount = 0;
+        this.championSlot = -1;
+    }
+
+    /**
+     *
+     * @return the list of players who are participating in the Bracket
+     */
+    public List<Playable> getPlayers() { return players; }
+
+    public BracketTypes getType() { return type; }
+
+    /**
+     *
+     * @return the number of lost Battles that eliminates a player
+     */
+    public int getMaxLosses() { return type == BracketTypes.DOUBLE_ELIMINATION ? 2 : 1; }
+
+    /**
+     * Starts the next level of the Bracket.
+     * @return the number of the new level, starting at 1
+     */
+    public int nextLevel() { return ++levelCount; }
+
+    public int getLevelCount() { return levelCount; }
+
+    /**
+     * Counts a finished Battle and records its loser, eliminating them once they reach the maximum number of losses.
+     * @param battle the finished Battle
+     * @param loserSlot the index of the player who lost the Battle
+     */
+    public void recordBattle(Battle battle, int loserSlot)
+    {
+        battleCount++;
+        fightCount += battle.getFightList().size();
+
+        if (++losses[loserSlot] >= getMaxLosses())
+            eliminationLevels[loserSlot] = levelCount;
+    }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return the number of Battles the player has lost
+     */
+    public int getLosses(int slot) { return losses[slot]; }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return true if the player has been eliminated
+     */
+    public boolean isEliminated(int slot) { return eliminationLevels[slot] >= 0; }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return the level at which the player was eliminated, or -1 if they were not
+     */
+    public int getEliminationLevel(int slot) { return eliminationLevels[slot]; }
+
+    public int getBattleCount() { return battleCount; }
+
+    public long getFightCount() { return fightCount; }
+
+    public void setChampionSlot(int championSlot) { this.championSlot = championSlot; }
+
+    public int getChampionSlot() { return championSlot; }
+
+    /**
+     *
+     * @return the last player left in the Bracket, or null before the Bracket has finished
+     */
+    public Playable getChampion() { return championSlot < 0 ? null : players.get(championSlot); }
+}
@@ -0,0 +1,15 @@
+package Entity;
+
+import Control.Utils;
+
+public enum BracketTypes
+{
+	SINGLE_ELIMINATION,
+	DOUBLE_ELIMINATION;
+	
+	@Override
+	public String toString()
+	{
+		return Utils.convertEnumString(this.name());
+	}
+}
@@ -0,0 +1,60 @@
+package Entity;
+
+/**
+ * Keeps running totals of the random damage each player has dealt and taken over
+ * the Rounds of a Fight, indexed by player slot, so Reversal of Fortune damage can
+ * be calculated without walking the whole Round history.
+ */
+public class DamageHistory {
+    private final double[] randomDamageDealt;
+    private final double[] randomDamageTaken;
+
+    /**
+     * Constructs a new, empty DamageHistory.
+     * @param playerCount The number of players in the Fight.
+     */
+    public DamageHistory(int playerCount) {
+        randomDamageDealt = new double[playerCount];
+        randomDamageTaken = new double[playerCount];
+    }
+
+    /**
+     * Adds the random damage of a finished Round to the running totals. Each player
+     * takes the damage dealt by the player before them in the Round, with the first
+     * player taking damage from the last.
+     * @param round The Round to record.
+     */
+    public void recordRound(Round round) {
+        int firstSlot = -1;
+        int lastSlot = -1;
+
+        for (int slot = 0; slot < round.getPlayerCount(); slot++) {
+            if (!round.isActive(slot))
+                continue;
+
+            randomDamageDealt[slot] += round.getRandomDamage(slot);
+
+            if (lastSlot >= 0)
+                randomDamageTaken[slot] += round.getRandomDamage(lastSlot);
+            else
+                firstSlot = slot;
+
+            lastSlot = slot;
+        }
+
+        if (firstSlot >= 0)
+            randomDamageTaken[firstSlot] += round.getRandomDamage(lastSlot);
+    }
+
+    /**
+     * @param slot The player's slot.
+     * @return The total random damage the player has dealt in all recorded Rounds.
+     */
+    public double getRandomDamageDealt(int slot) { return randomDamageDealt[slot]; }
+
+    /**
+     * @param slot The player's slot.
+     * @return The total random damage the player has taken in all recorded Rounds.
+     */
+    public double getRandomDamageTaken(int slot) { return randomDamageTaken[slot]; }
+}
@@ -0,0 +1,319 @@
+package Entity;
+
+import Control.ExpectimaxSearch;
+
+import java.util.Objects;
+
+/**
+ * A computer controlled pet that chooses its Skills with an ExpectimaxSearch against the
+ * opponent it attacks, instead of at random. Its table of searched positions has a fixed
+ * capacity and is kept for the pet's whole life, so it can play any number of Fights.
+ */
+public class ExpectimaxPet implements Playable, OpponentAware {
+    public static final long DEFAULT_MOVE_BUDGET_MILLIS = 5;
+    public static final int DEFAULT_MAX_DEPTH = 8;
+    public static final int DEFAULT_UNBUDGETED_MAX_DEPTH = 3;
+    public static final int DEFAULT_TABLE_CAPACITY = 1 << 16;
+
+    private Player player;
+    private String name;
+    private PetTypes type;
+    private double startingHp;
+    private double currHp;
+    private long rechargeTimes;
+    private final ExpectimaxSearch search;
+    private Playable opponent;
+    private double randomDamageDealt;
+    private double randomDamageTaken;
+
+    /**
+     * private constructor for ExpectimaxPet that utilizes the Builder pattern.
+     * @param: an object of ExpectimaxPetBuilder (from the Builder Pattern).
+     */
+    private ExpectimaxPet(ExpectimaxPetBuilder builder) {
+        //state validations
+        if (builder.player == null)
+            throw new IllegalStateException("The player attribute cannot be null");
+        if (builder.name == null)
+            throw new IllegalStateException("The pet name cannot be null");
+        if (builder.type == null)
+            throw new IllegalStateException("The pet type cannot be null");
+        if (builder.startingHp <= 0)
+            throw new IllegalStateException("The pet's starting HP must be greater than zero");
+        if (builder.moveBudgetMillis < 0)
+            throw new IllegalStateException("The time budget of a move cannot be negative");
+        int maxDepth = builder.maxDepthSet ? builder.maxDepth
+                : builder.moveBudgetMillis == 0 ? DEFAULT_UNBUDGETED_MAX_DEPTH : DEFAULT_MAX_DEPTH;
+        if (maxDepth < 1 || maxDepth > ExpectimaxSearch.MAX_DEPTH)
+            throw new IllegalStateException("The search depth must be between 1 and " + ExpectimaxSearch.MAX_DEPTH);
+        if (builder.tableCapacity < 2)
+            throw new IllegalStateException("The table capacity must be at least 2");
+
+        //initialize attribute values
+        this.player = builder.player;
+        this.name = builder.name;
+        this.type = builder.type;
+        this.startingHp = builder.startingHp;
+        this.currHp = startingHp;
+
+        // no Skills are recharging at the start
+        this.rechargeTimes = RechargeTimes.NONE;
+
+        this.search = new ExpectimaxSearch(builder.tableCapacity, maxDepth, builder.moveBudgetMillis * 1_000_000);
+    }
+
+    @Override
+    public String getPlayerName() {
+        return this.player.getName();
+    }
+
+    @Override
+    public String getPetName() {
+        return this.name;
+    }
+
+    @Override
+    public PlayerTypes getPlayerType() {
+        return this.player.getType();
+    }
+
+    @Override
+    public PetTypes getPetType() {
+        return this.type;
+    }
+
+    @Override
+    public double getCurrentHp() {
+        return this.currHp;
+    }
+
+    /**
+     * Remembers the opponent to search against when choosing this Round's Skill.
+     */
+    @Override
+    public void observeOpponent(Playable opponent, double randomDamageDealt, double randomDamageTaken) {
+        this.opponent = opponent;
+        this.randomDamageDealt = randomDamageDealt;
+        this.randomDamageTaken = randomDamageTaken;
+    }
+
+    /**
+     * Searches for the best skill against the opponent given to observeOpponent
+     * @return Returns the chosen skill, which is never recharging
+     */
+    @Override
+    public Skills chooseSkill() {
+        if (opponent == null)
+            throw new IllegalStateException(name + " has not been shown an opponent");
+
+        return search.chooseSkill(this, opponent, randomDamageDealt, randomDamageTaken);
+    }
+
+    /**
+     * This method is called by the game controlling classes to update their pet's hp based on the damage inflicted
+     *
+     * @param hp: a double to subtract the pet's hp by
+     */
+    @Override
+    public void updateHp(double hp) {
+        this.currHp -= hp;
+    }
+
+    /**
+     * Resets the pet's current hp to its starting hp
+     */
+    @Override
+    public void resetHp() {
+        this.currHp = startingHp;
+    }
+
+    /**
+     * Sets the pet's hp to the provided value
+     */
+    @Override
+    public void setCurrentHp(double currentHp) {
+        this.currHp = currentHp;
+    }
+
+    /**
+     * @return: Returns true if the pet's hp > 0, false otherwise
+     */
+    @Override
+    public boolean isAwake() {
+        return this.currHp > 0;
+    }
+
+    /**
+     * @return: Returns the prediction found by the search that chose Shoot the Moon
+     */
+    @Override
+    public Skills getSkillPrediction() {
+        return search.getSkillPrediction();
+    }
+
+    /**
+     * @return: Returns the current recharge time for the provided skill enumeration
+     */
+    @Override
+    public int getSkillRechargeTime(Skills skill) {
+        return RechargeTimes.get(this.rechargeTimes, skill);
+    }
+
+    /**
+     * @return: Returns the mask of all skills that are currently recharging
+     */
+    @Override
+    public int getRechargingSkills() {
+        return RechargeTimes.getRechargingSkills(this.rechargeTimes);
+    }
+
+    /**
+     * This is somewhat of a convenience method, since there are methods to get the starting hp and current hp
+     * @return: Returns the pet's current percent of hp
+     */
+    @Override
+    public double calculateHpPercent() {
+        return (currHp / startingHp);
+    }
+
+    /**
+     * @return: Returns the pet's starting hp
+     */
+    @Override
+    public double getStartingHp() {
+        return this.startingHp;
+    }
+
+    /**
+     * Called by the game controlling classes.
+     * Resets the pet's hp to its starting hp
+     * Resets all skills to what they were at the start of the fight
+     * Forgets the last opponent, but keeps the positions searched so far
+     */
+    @Override
+    public void reset() {
+        this.resetHp();
+        this.rechargeTimes = RechargeTimes.NONE;
+        this.opponent = null;
+    }
+
+    /**
+     * Decrements the recharge times for all recharging skills
+     */
+    @Override
+    public void decrementRechargeTimes() {
+        this.rechargeTimes = RechargeTimes.decrementAll(this.rechargeTimes);
+    }
+
+    /**
+     * Sets the recharge time for the given skill
+     */
+    @Override
+    public void setRechargeTime(Skills skill, int rechargeTime) {
+        this.rechargeTimes = RechargeTimes.set(this.rechargeTimes, skill, rechargeTime);
+    }
+
+    /**
+     * @return The search choosing this pet's skills
+     */
+    public ExpectimaxSearch getSearch() {
+        return search;
+    }
+
+    /**
+     * Compares ExpectimaxPets for equality.
+     * @param o The other Object.
+     * @return True if values are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ExpectimaxPet pet = (ExpectimaxPet) o;
+        return Double.compare(pet.startingHp, startingHp) == 0 && Objects.equals(player, pet.player) && Objects.equals(name, pet.name) && type == pet.type;
+    }
+
+    /**
+     * Generates a unique hash associated with this ExpectimaxPet instance.
+     * @return The unique integer hash
+     */
+    @Override
+    public int hashCode() {
+        // Same value as Objects.hash(player, name, type, startingHp), without the varargs array and boxing
+        int result = 31 + Objects.hashCode(player);
+        result = 31 * result + Objects.hashCode(name);
+        result = 31 * result + Objects.hashCode(type);
+        return 31 * result + Double.hashCode(startingHp);
+    }
+
+    // -------------------------- PET BUILDER CLASS ------------------------- \\
+
+    /**
+     * The builder class for ExpectimaxPets
+     */
+    public static class ExpectimaxPetBuilder {
+        private Player player;
+        private String name;
+        private PetTypes type;
+        private double startingHp;
+        private long moveBudgetMillis = DEFAULT_MOVE_BUDGET_MILLIS;
+        private int maxDepth;
+        private boolean maxDepthSet;
+        private int tableCapacity = DEFAULT_TABLE_CAPACITY;
+
+        public ExpectimaxPetBuilder() {
+
+        }
+
+        public ExpectimaxPet build() {
+            return new ExpectimaxPet(this);
+        }
+
+        public ExpectimaxPetBuilder withPlayer(Player player) {
+            this.player = player;
+            return this;
+        }
+
+        public ExpectimaxPetBuilder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public ExpectimaxPetBuilder withType(PetTypes type) {
+            this.type = type;
+            return this;
+        }
+
+        public ExpectimaxPetBuilder withStartingHp(double startingHp) {
+            this.startingHp = startingHp;
+            return this;
+        }
+
+        /**
+         * @param moveBudgetMillis The time each move may be searched for, or 0 to always search to the maximum depth.
+         *                         Every Round searched ahead multiplies the work, so without a time budget the
+         *                         maximum depth defaults to DEFAULT_UNBUDGETED_MAX_DEPTH instead of DEFAULT_MAX_DEPTH
+         */
+        public ExpectimaxPetBuilder withMoveBudget(long moveBudgetMillis) {
+            this.moveBudgetMillis = moveBudgetMillis;
+            return this;
+        }
+
+        /**
+         * @param maxDepth The maximum number of Rounds searched ahead
+         */
+        public ExpectimaxPetBuilder withMaxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            this.maxDepthSet = true;
+            return this;
+        }
+
+        /**
+         * @param tableCapacity The maximum number of searched positions kept
+         */
+        public ExpectimaxPetBuilder withTableCapacity(int tableCapacity) {
+            this.tableCapacity = tableCapacity;
+            return this;
+        }
+    }
+}
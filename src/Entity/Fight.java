@@ -1,53 +1,87 @@
-/**
- * @author Taryn Grohall
- */
-package Entity;
-
-import java.util.ArrayList;
-import java.util.List;
-
-/**
- * Stores objects that are useful to access during the course of a fight in the game, accessed by Fight Controller.
- */
-public class Fight {
-    private int roundNumber;
-    private int winningPlayer;
-    private List<Playable> players;
-    private List<Playable> activePlayers;
-    private List<Round> roundList;
-
-    /**
-     * Parameterized constructor, initializes a Fight instance with a List of Playable objects. Assigns the Playable List
-     * to the one passed in. Also initializes the roundNumber to zero.
-     *
-     * @param players List of Playable
-     */
-    public Fight(List<Playable> players) {
-        this.players = players;
-        this.activePlayers = players;
-        roundList = new ArrayList<>();
-        roundNumber = 0;
-    }
-
-    public int getRoundNumber() {
-        return roundNumber;
-    }
-
-    public void setRoundNumber(int roundNumber) { this.roundNumber = roundNumber; }
-
-    public int getWinningPlayer() {
-        return winningPlayer;
-    }
-
-    public void setWinningPlayer(int winningPlayer) { this.winningPlayer = winningPlayer; }
-
-    public List<Playable> getPlayers() { return players; }
-
-    public void setPlayers(List<Playable> players) { this.players = players; }
-
-    public List<Playable> getActivePlayers() { return activePlayers; }
-
-    public void setActivePlayers(List<Playable> playerToAdd) { activePlayers = playerToAdd; }
-
-    public List<Round> getRoundList() { return roundList; }
-}
+/**
+ * @author Taryn Grohall
+ */
+package Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores objects that are useful to access during the course of a fight in the game, accessed by Fight Controller.
+ * Every player is given a slot, their index in the list of players, when the Fight is created. All per-round data
+ * is stored by slot.
+ */
+public class Fight {
+    private int roundNumber;
+    private int winningPlayer;
+    private List<Playable> players;
+    private List<Playable> activePlayers;
+    private int[] activeSlots;
+    private final RoundLog roundLog;
+    private final DamageHistory damageHistory;
+
+    /**
+     * Parameterized constructor, initializes a Fight instance with a List of Playable objects. Assigns the Playable List
+     * to the one passed in. Also initializes the roundNumber to zero.
+     *
+     * @param players List of Playable
+     */
+    public Fight(List<Playable> players) {
+        this.players = players;
+        this.activePlayers = players;
+        this.activeSlots = new int[players.size()];
+        for (int i = 0; i < activeSlots.length; i++)
+            activeSlots[i] = i;
+        roundLog = new RoundLog(players);
+        damageHistory = new DamageHistory(players.size());
+        roundNumber = 0;
+    }
+
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    public void setRoundNumber(int roundNumber) { this.roundNumber = roundNumber; }
+
+    /**
+     * @return The slot of the player who won the Fight
+     */
+    public int getWinningPlayer() {
+        return winningPlayer;
+    }
+
+    public void setWinningPlayer(int winningPlayer) { this.winningPlayer = winningPlayer; }
+
+    public List<Playable> getPlayers() { return players; }
+
+    public void setPlayers(List<Playable> players) { this.players = players; }
+
+    public List<Playable> getActivePlayers() { return activePlayers; }
+
+    /**
+     * @return The slots of all players still awake at the start of the current round, in slot order
+     */
+    public int[] getActiveSlots() { return activeSlots; }
+
+    /**
+     * Replaces the players still awake at the start of the current round.
+     * @param activeSlots The slots of the awake players, in slot order
+     */
+    public void setActiveSlots(int[] activeSlots) {
+        this.activeSlots = activeSlots;
+
+        List<Playable> updatedList = new ArrayList<>(activeSlots.length);
+        for (int slot : activeSlots)
+            updatedList.add(players.get(slot));
+        this.activePlayers = updatedList;
+    }
+
+    /**
+     * @return A read-only view of every Round played so far
+     */
+    public List<Round> getRoundList() { return roundLog.asList(); }
+
+    public RoundLog getRoundLog() { return roundLog; }
+
+    public DamageHistory getDamageHistory() { return damageHistory; }
+}
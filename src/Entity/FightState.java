@@ -0,0 +1,131 @@
+package Entity;
+
+/**
+ * Stores the state of every contender in a Fight in primitive arrays indexed by
+ * the contender's position in the Fight's player list. Used by the array-based
+ * fight engine in place of the HP and Skill fields of each Playable.
+ */
+public class FightState {
+    public static final int SKILL_COUNT = Skills.values().length;
+
+    private final int playerCount;
+    private final PetTypes[] petTypes;
+    private final double[] startingHp;
+    private final double[] currentHp;
+    private final long[] rechargeTimes;
+    private final double[] randomDamageDealt;
+    private final double[] randomDamageTaken;
+    private final int[] activePlayers;
+    private int activePlayerCount;
+
+    /**
+     * Constructs a new FightState for the given players, with every player at
+     * full HP and no Skills recharging.
+     * @param players The contenders in the Fight.
+     */
+    public FightState(Playable[] players) {
+        playerCount = players.length;
+        petTypes = new PetTypes[playerCount];
+        startingHp = new double[playerCount];
+        currentHp = new double[playerCount];
+        rechargeTimes = new long[playerCount];
+        randomDamageDealt = new double[playerCount];
+        randomDamageTaken = new double[playerCount];
+        activePlayers = new int[playerCount];
+
+        for (int i = 0; i < playerCount; i++) {
+            petTypes[i] = players[i].getPetType();
+            startingHp[i] = players[i].getStartingHp();
+            currentHp[i] = startingHp[i];
+        }
+    }
+
+    public int getPlayerCount() { return playerCount; }
+
+    public PetTypes getPetType(int player) { return petTypes[player]; }
+
+    public double getStartingHp(int player) { return startingHp[player]; }
+
+    public double getCurrentHp(int player) { return currentHp[player]; }
+
+    public void updateHp(int player, double damage) { currentHp[player] -= damage; }
+
+    public boolean isAwake(int player) { return currentHp[player] > 0; }
+
+    public double calculateHpPercent(int player) { return currentHp[player] / startingHp[player]; }
+
+    public int getRechargeTime(int player, Skills skill) { return RechargeTimes.get(rechargeTimes[player], skill); }
+
+    public void setRechargeTime(int player, Skills skill, int rechargeTime) {
+        rechargeTimes[player] = RechargeTimes.set(rechargeTimes[player], skill, rechargeTime);
+    }
+
+    /**
+     * Builds the mask of a player's Skills that are currently recharging.
+     * @param player The player's index.
+     * @return A mask with the bit of every recharging Skill set.
+     */
+    public int getRechargingSkills(int player) {
+        return RechargeTimes.getRechargingSkills(rechargeTimes[player]);
+    }
+
+    /**
+     * Decrements the recharge times for all of a player's recharging Skills.
+     * @param player The player's index.
+     */
+    public void decrementRechargeTimes(int player) {
+        rechargeTimes[player] = RechargeTimes.decrementAll(rechargeTimes[player]);
+    }
+
+    public double getRandomDamageDealt(int player) { return randomDamageDealt[player]; }
+
+    public double getRandomDamageTaken(int player) { return randomDamageTaken[player]; }
+
+    /**
+     * Adds random damage dealt by one player to another to the running totals used
+     * by Reversal of Fortune.
+     * @param player The index of the player dealing the damage.
+     * @param opponent The index of the player taking the damage.
+     * @param randomDamage The random damage dealt.
+     */
+    public void recordRandomDamage(int player, int opponent, double randomDamage) {
+        randomDamageDealt[player] += randomDamage;
+        randomDamageTaken[opponent] += randomDamage;
+    }
+
+    /**
+     * Rebuilds the list of awake players, in player order.
+     * @return The number of awake players.
+     */
+    public int updateActivePlayers() {
+        activePlayerCount = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (isAwake(i))
+                activePlayers[activePlayerCount++] = i;
+        }
+
+        return activePlayerCount;
+    }
+
+    public int getActivePlayerCount() { return activePlayerCount; }
+
+    /**
+     * @param position A position in the list of awake players.
+     * @return The index of the player at that position.
+     */
+    public int getActivePlayer(int position) { return activePlayers[position]; }
+
+    /**
+     * Counts how many players are still awake.
+     * @return The number of players with HP above zero.
+     */
+    public int countAwake() {
+        int count = 0;
+        for (int i = 0; i < playerCount; i++) {
+            if (isAwake(i))
+                count++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,393 @@
+package Entity;
+
+import java.util.List;
+
+/**
+ * Base class for everything that happens during a game and may be shown to the
+ * players or recorded. Events carry the raw game data rather than display text,
+ * so text is only built by sinks that want it. Events reference live game objects,
+ * so a sink that handles an event later must copy whatever it needs first.
+ */
+public abstract class GameEvent {
+    /**
+     * Passes this event to the matching method of the sink.
+     * @param sink The sink receiving the event.
+     */
+    public abstract void dispatch(GameEventSink sink);
+
+    /**
+     * A Round of a Fight is about to start.
+     */
+    public static final class RoundStarted extends GameEvent {
+        private final Fight fight;
+
+        public RoundStarted(Fight fight) {
+            this.fight = fight;
+        }
+
+        public Fight getFight() { return fight; }
+
+        public int getRoundNumber() { return fight.getRoundNumber(); }
+
+        /**
+         * @return The players still awake at the start of the Round.
+         */
+        public List<Playable> getActivePlayers() { return fight.getActivePlayers(); }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onRoundStarted(this); }
+    }
+
+    /**
+     * A player is being asked to choose a Skill, or to predict their opponent's Skill.
+     */
+    public static final class SkillRequested extends GameEvent {
+        private final Playable player;
+        private final boolean prediction;
+
+        public SkillRequested(Playable player, boolean prediction) {
+            this.player = player;
+            this.prediction = prediction;
+        }
+
+        public Playable getPlayer() { return player; }
+
+        /**
+         * @return True if the player is predicting their opponent's Skill, false if choosing their own.
+         */
+        public boolean isPrediction() { return prediction; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSkillRequested(this); }
+    }
+
+    /**
+     * A player chose a Skill that is still recharging and must choose again.
+     */
+    public static final class SkillRecharging extends GameEvent {
+        private final Playable player;
+        private final Skills skill;
+
+        public SkillRecharging(Playable player, Skills skill) {
+            this.player = player;
+            this.skill = skill;
+        }
+
+        public Playable getPlayer() { return player; }
+
+        public Skills getSkill() { return skill; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSkillRecharging(this); }
+    }
+
+    /**
+     * A player settled on the Skill they use this Round.
+     */
+    public static final class SkillChosen extends GameEvent {
+        private final Playable player;
+        private final int slot;
+        private final Skills skill;
+
+        public SkillChosen(Playable player, int slot, Skills skill) {
+            this.player = player;
+            this.slot = slot;
+            this.skill = skill;
+        }
+
+        public Playable getPlayer() { return player; }
+
+        /**
+         * @return The player's slot in the Fight.
+         */
+        public int getSlot() { return slot; }
+
+        public Skills getSkill() { return skill; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSkillChosen(this); }
+    }
+
+    /**
+     * A player dealt damage to their opponent at the end of a Round.
+     */
+    public static final class DamageDealt extends GameEvent {
+        private final Playable player;
+        private final Skills skill;
+        private final double randomDamage;
+        private final double conditionalDamage;
+        private final double randomDamageTaken;
+
+        /**
+         * @param player The player dealing the damage.
+         * @param skill The Skill the player used.
+         * @param randomDamage The random damage the player dealt.
+         * @param conditionalDamage The conditional damage the player dealt.
+         * @param randomDamageTaken The random damage the player took this Round.
+         */
+        public DamageDealt(Playable player, Skills skill, double randomDamage, double conditionalDamage, double randomDamageTaken) {
+            this.player = player;
+            this.skill = skill;
+            this.randomDamage = randomDamage;
+            this.conditionalDamage = conditionalDamage;
+            this.randomDamageTaken = randomDamageTaken;
+        }
+
+        public Playable getPlayer() { return player; }
+
+        public Skills getSkill() { return skill; }
+
+        public double getRandomDamage() { return randomDamage; }
+
+        public double getConditionalDamage() { return conditionalDamage; }
+
+        public double getRandomDamageTaken() { return randomDamageTaken; }
+
+        public double getTotalDamage() { return randomDamage + conditionalDamage; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onDamageDealt(this); }
+    }
+
+    /**
+     * A Fight of a Battle is about to start.
+     */
+    public static final class FightStarted extends GameEvent {
+        private final Battle battle;
+        private final int fightNumber;
+
+        public FightStarted(Battle battle, int fightNumber) {
+            this.battle = battle;
+            this.fightNumber = fightNumber;
+        }
+
+        public Battle getBattle() { return battle; }
+
+        public int getFightNumber() { return fightNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onFightStarted(this); }
+    }
+
+    /**
+     * A Fight of a Battle has finished.
+     */
+    public static final class FightEnded extends GameEvent {
+        private final Battle battle;
+        private final Fight fight;
+        private final int fightNumber;
+
+        public FightEnded(Battle battle, Fight fight, int fightNumber) {
+            this.battle = battle;
+            this.fight = fight;
+            this.fightNumber = fightNumber;
+        }
+
+        public Battle getBattle() { return battle; }
+
+        public Fight getFight() { return fight; }
+
+        public int getFightNumber() { return fightNumber; }
+
+        public Playable getWinner() { return fight.getPlayers().get(fight.getWinningPlayer()); }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onFightEnded(this); }
+    }
+
+    /**
+     * Every Fight of a Battle has finished.
+     */
+    public static final class BattleEnded extends GameEvent {
+        private final Battle battle;
+
+        public BattleEnded(Battle battle) {
+            this.battle = battle;
+        }
+
+        public Battle getBattle() { return battle; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onBattleEnded(this); }
+    }
+
+    /**
+     * A round of a Season is about to start.
+     */
+    public static final class SeasonRoundStarted extends GameEvent {
+        private final Season season;
+        private final int roundNumber;
+
+        public SeasonRoundStarted(Season season, int roundNumber) {
+            this.season = season;
+            this.roundNumber = roundNumber;
+        }
+
+        public Season getSeason() { return season; }
+
+        public int getRoundNumber() { return roundNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSeasonRoundStarted(this); }
+    }
+
+    /**
+     * A Battle of a Season round is about to start.
+     */
+    public static final class SeasonBattleStarted extends GameEvent {
+        private final List<Playable> players;
+        private final int battleNumber;
+
+        /**
+         * @param players The players in the Battle.
+         * @param battleNumber The number of the Battle within its Season round.
+         */
+        public SeasonBattleStarted(List<Playable> players, int battleNumber) {
+            this.players = players;
+            this.battleNumber = battleNumber;
+        }
+
+        public List<Playable> getPlayers() { return players; }
+
+        public int getBattleNumber() { return battleNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSeasonBattleStarted(this); }
+    }
+
+    /**
+     * A Battle of a Season round has finished.
+     */
+    public static final class SeasonBattleEnded extends GameEvent {
+        private final Battle battle;
+        private final int battleNumber;
+
+        /**
+         * @param battle The finished Battle.
+         * @param battleNumber The number of the Battle within its Season round.
+         */
+        public SeasonBattleEnded(Battle battle, int battleNumber) {
+            this.battle = battle;
+            this.battleNumber = battleNumber;
+        }
+
+        public Battle getBattle() { return battle; }
+
+        public int getBattleNumber() { return battleNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSeasonBattleEnded(this); }
+    }
+
+    /**
+     * A player has no opponent in a Season round.
+     */
+    public static final class SeasonBye extends GameEvent {
+        private final Playable player;
+        private final int battleNumber;
+
+        /**
+         * @param player The player receiving the bye.
+         * @param battleNumber The number of the bye within its Season round.
+         */
+        public SeasonBye(Playable player, int battleNumber) {
+            this.player = player;
+            this.battleNumber = battleNumber;
+        }
+
+        public Playable getPlayer() { return player; }
+
+        public int getBattleNumber() { return battleNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSeasonBye(this); }
+    }
+
+    /**
+     * Every round of a Season has finished.
+     */
+    public static final class SeasonEnded extends GameEvent {
+        private final Season season;
+
+        public SeasonEnded(Season season) {
+            this.season = season;
+        }
+
+        public Season getSeason() { return season; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSeasonEnded(this); }
+    }
+
+    /**
+     * A round of a Swiss tournament is about to start.
+     */
+    public static final class SwissRoundStarted extends GameEvent {
+        private final SwissTournament tournament;
+        private final int roundNumber;
+
+        public SwissRoundStarted(SwissTournament tournament, int roundNumber) {
+            this.tournament = tournament;
+            this.roundNumber = roundNumber;
+        }
+
+        public SwissTournament getTournament() { return tournament; }
+
+        public int getRoundNumber() { return roundNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSwissRoundStarted(this); }
+    }
+
+    /**
+     * Every round of a Swiss tournament has finished.
+     */
+    public static final class SwissEnded extends GameEvent {
+        private final SwissTournament tournament;
+
+        public SwissEnded(SwissTournament tournament) {
+            this.tournament = tournament;
+        }
+
+        public SwissTournament getTournament() { return tournament; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onSwissEnded(this); }
+    }
+
+    /**
+     * A level of an elimination Bracket is about to start.
+     */
+    public static final class BracketLevelStarted extends GameEvent {
+        private final Bracket bracket;
+        private final int levelNumber;
+
+        public BracketLevelStarted(Bracket bracket, int levelNumber) {
+            this.bracket = bracket;
+            this.levelNumber = levelNumber;
+        }
+
+        public Bracket getBracket() { return bracket; }
+
+        public int getLevelNumber() { return levelNumber; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onBracketLevelStarted(this); }
+    }
+
+    /**
+     * A single player is left in an elimination Bracket.
+     */
+    public static final class BracketEnded extends GameEvent {
+        private final Bracket bracket;
+
+        public BracketEnded(Bracket bracket) {
+            this.bracket = bracket;
+        }
+
+        public Bracket getBracket() { return bracket; }
+
+        @Override
+        public void dispatch(GameEventSink sink) { sink.onBracketEnded(this); }
+    }
+}
@@ -0,0 +1,42 @@
+package Entity;
+
+/**
+ * Base interface for all classes that receive GameEvents from a GameEventBus. It lives
+ * next to the events so each event can dispatch itself without depending on Control. Every
+ * method does nothing by default, so a sink only overrides the events it handles.
+ */
+public interface GameEventSink {
+    default void onRoundStarted(GameEvent.RoundStarted event) { }
+
+    default void onSkillRequested(GameEvent.SkillRequested event) { }
+
+    default void onSkillRecharging(GameEvent.SkillRecharging event) { }
+
+    default void onSkillChosen(GameEvent.SkillChosen event) { }
+
+    default void onDamageDealt(GameEvent.DamageDealt event) { }
+
+    default void onFightStarted(GameEvent.FightStarted event) { }
+
+    default void onFightEnded(GameEvent.FightEnded event) { }
+
+    default void onBattleEnded(GameEvent.BattleEnded event) { }
+
+    default void onSeasonRoundStarted(GameEvent.SeasonRoundStarted event) { }
+
+    default void onSeasonBattleStarted(GameEvent.SeasonBattleStarted event) { }
+
+    default void onSeasonBattleEnded(GameEvent.SeasonBattleEnded event) { }
+
+    default void onSeasonBye(GameEvent.SeasonBye event) { }
+
+    default void onSeasonEnded(GameEvent.SeasonEnded event) { }
+
+    default void onSwissRoundStarted(GameEvent.SwissRoundStarted event) { }
+
+    default void onSwissEnded(GameEvent.SwissEnded event) { }
+
+    default void onBracketLevelStarted(GameEvent.BracketLevelStarted event) { }
+
+    default void onBracketEnded(GameEvent.BracketEnded event) { }
+}
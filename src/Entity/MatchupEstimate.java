@@ -0,0 +1,95 @@
+package Entity;
+
+/**
+ * Stores the outcome of many simulated Fights between the same two pets: how often
+ * the first pet won, a 95% confidence interval for its win probability, and the
+ * distribution of Fight lengths in rounds.
+ */
+public class MatchupEstimate {
+    private static final double Z_95 = 1.959963984540054;
+
+    private final long fightCount;
+    private final long petOneWins;
+    private final long[] fightLengthCounts;
+
+    /**
+     * Constructs a new MatchupEstimate.
+     * @param fightCount The number of Fights simulated.
+     * @param petOneWins The number of those Fights won by the first pet.
+     * @param fightLengthCounts The number of Fights that lasted each number of rounds,
+     *                          indexed by round count.
+     */
+    public MatchupEstimate(long fightCount, long petOneWins, long[] fightLengthCounts) {
+        this.fightCount = fightCount;
+        this.petOneWins = petOneWins;
+        this.fightLengthCounts = fightLengthCounts;
+    }
+
+    public long getFightCount() { return fightCount; }
+
+    public long getPetOneWins() { return petOneWins; }
+
+    /**
+     * @return The fraction of Fights won by the first pet.
+     */
+    public double getWinProbability() { return (double) petOneWins / fightCount; }
+
+    /**
+     * @return The lower bound of the 95% Wilson score interval for the first pet's win probability.
+     */
+    public double getConfidenceLow() {
+        // Exactly 0 when no Fight was won, which the formula only reaches up to rounding
+        return petOneWins == 0 ? 0 : wilsonCenter() - wilsonHalfWidth();
+    }
+
+    /**
+     * @return The upper bound of the 95% Wilson score interval for the first pet's win probability.
+     */
+    public double getConfidenceHigh() {
+        // Exactly 1 when every Fight was won, so the interval still contains the estimate
+        return petOneWins == fightCount ? 1 : wilsonCenter() + wilsonHalfWidth();
+    }
+
+    /**
+     * @param rounds A Fight length, in rounds.
+     * @return The number of Fights that lasted exactly that many rounds.
+     */
+    public long getFightLengthCount(int rounds) {
+        return rounds >= 0 && rounds < fightLengthCounts.length ? fightLengthCounts[rounds] : 0;
+    }
+
+    /**
+     * @return The length, in rounds, of the longest Fight simulated.
+     */
+    public int getLongestFight() {
+        for (int rounds = fightLengthCounts.length - 1; rounds > 0; rounds--) {
+            if (fightLengthCounts[rounds] > 0)
+                return rounds;
+        }
+
+        return 0;
+    }
+
+    /**
+     * @return The mean Fight length, in rounds.
+     */
+    public double getMeanFightLength() {
+        double totalRounds = 0;
+        for (int rounds = 0; rounds < fightLengthCounts.length; rounds++)
+            totalRounds += (double) rounds * fightLengthCounts[rounds];
+
+        return totalRounds / fightCount;
+    }
+
+    private double wilsonCenter() {
+        double p = getWinProbability();
+        double z2 = Z_95 * Z_95;
+        return (p + z2 / (2 * fightCount)) / (1 + z2 / fightCount);
+    }
+
+    private double wilsonHalfWidth() {
+        double p = getWinProbability();
+        double z2 = Z_95 * Z_95;
+        return Z_95 * Math.sqrt(p * (1 - p) / fightCount + z2 / (4.0 * fightCount * fightCount)) / (1 + z2 / fightCount);
+    }
+}
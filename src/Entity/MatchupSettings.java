@@ -0,0 +1,91 @@
+package Entity;
+
+/**
+ * Contains the two AIPet configurations and the range of seeds used to estimate
+ * the outcome of a 1v1 matchup.
+ */
+public class MatchupSettings {
+    private final PetTypes petOneType;
+    private final double petOneStartingHp;
+    private final PetTypes petTwoType;
+    private final double petTwoStartingHp;
+    private final long firstSeed;
+    private final int fightCount;
+
+    /**
+     * Constructs a new MatchupSettings.
+     * @param matchupSettingsBuilder The corresponding Builder with all the
+     *                               initialized settings to be used.
+     */
+    private MatchupSettings(MatchupSettingsBuilder matchupSettingsBuilder) {
+        // State check
+        if (matchupSettingsBuilder.petOneType == null || matchupSettingsBuilder.petTwoType == null)
+            throw new IllegalStateException("Both pet types must be set.");
+        if (matchupSettingsBuilder.petOneStartingHp <= 0 || matchupSettingsBuilder.petTwoStartingHp <= 0)
+            throw new IllegalStateException("Both pets' starting HP must be greater than zero.");
+        if (matchupSettingsBuilder.fightCount <= 0)
+            throw new IllegalStateException("Number of fights must be more than 0.");
+
+        // Object construction
+        this.petOneType = matchupSettingsBuilder.petOneType;
+        this.petOneStartingHp = matchupSettingsBuilder.petOneStartingHp;
+        this.petTwoType = matchupSettingsBuilder.petTwoType;
+        this.petTwoStartingHp = matchupSettingsBuilder.petTwoStartingHp;
+        this.firstSeed = matchupSettingsBuilder.firstSeed;
+        this.fightCount = matchupSettingsBuilder.fightCount;
+    }
+
+    public PetTypes getPetOneType() { return petOneType; }
+
+    public double getPetOneStartingHp() { return petOneStartingHp; }
+
+    public PetTypes getPetTwoType() { return petTwoType; }
+
+    public double getPetTwoStartingHp() { return petTwoStartingHp; }
+
+    /**
+     * @return The seed of the first Fight. Fight i uses the seed firstSeed + i.
+     */
+    public long getFirstSeed() { return firstSeed; }
+
+    public int getFightCount() { return fightCount; }
+
+    /**
+     * Builder class for MatchupSettings.
+     */
+    public static class MatchupSettingsBuilder {
+        private PetTypes petOneType;
+        private double petOneStartingHp;
+        private PetTypes petTwoType;
+        private double petTwoStartingHp;
+        private long firstSeed;
+        private int fightCount;
+
+        /**
+         * Creates a new instance of MatchupSettings with the settings initialized
+         * in this class.
+         * @return The new MatchupSettings instance.
+         */
+        public MatchupSettings build() {
+            return new MatchupSettings(this);
+        }
+
+        public MatchupSettingsBuilder withPetOne(PetTypes type, double startingHp) {
+            this.petOneType = type;
+            this.petOneStartingHp = startingHp;
+            return this;
+        }
+
+        public MatchupSettingsBuilder withPetTwo(PetTypes type, double startingHp) {
+            this.petTwoType = type;
+            this.petTwoStartingHp = startingHp;
+            return this;
+        }
+
+        public MatchupSettingsBuilder withSeedRange(long firstSeed, int fightCount) {
+            this.firstSeed = firstSeed;
+            this.fightCount = fightCount;
+            return this;
+        }
+    }
+}
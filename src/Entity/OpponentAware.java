@@ -0,0 +1,17 @@
+package Entity;
+
+/**
+ * Implemented by Playables that look at their opponent before choosing a Skill. The
+ * RoundController tells them which player they attack in the current Round before asking
+ * them for a Skill. They only play Fights between two players, since they search against
+ * a single opponent.
+ */
+public interface OpponentAware {
+    /**
+     * Called before the player is asked for a Skill.
+     * @param opponent The player this player attacks in the current Round.
+     * @param randomDamageDealt The total random damage this player has dealt in previous Rounds.
+     * @param randomDamageTaken The total random damage this player has taken in previous Rounds.
+     */
+    void observeOpponent(Playable opponent, double randomDamageDealt, double randomDamageTaken);
+}
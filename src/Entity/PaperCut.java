@@ -1,14 +1,14 @@
-package Entity;
-
-/**
- * Data related to the PaperCut Skill.
- */
-public class PaperCut extends Skill {
-
-    /**
-     * Constructs a new PaperCut Skill.
-     */
-    public PaperCut() {
-        super(Skills.PAPER_CUT);
-    }
+package Entity;
+
+/**
+ * Data related to the PaperCut Skill.
+ */
+public class PaperCut extends Skill {
+
+    /**
+     * Constructs a new PaperCut Skill.
+     */
+    public PaperCut() {
+        super(Skills.PAPER_CUT);
+    }
 }
\ No newline at end of file
@@ -1,16 +1,16 @@
-package Entity;
-
-import Control.Utils;
-
-public enum PetTypes
-{
-	POWER,
-	SPEED,
-	INTELLIGENCE;
-	
-	@Override
-	public String toString()
-	{		
-		return Utils.convertEnumString(this.name());
-	}
-}
+package Entity;
+
+import Control.Utils;
+
+public enum PetTypes
+{
+	POWER,
+	SPEED,
+	INTELLIGENCE;
+	
+	@Override
+	public String toString()
+	{		
+		return Utils.convertEnumString(this.name());
+	}
+}
@@ -0,0 +1,99 @@
+package Entity;
+
+import Control.SkillFactory;
+
+/**
+ * Packs the recharge times of all Skills into a single long, one byte per Skill
+ * in Skills ordinal order. Recharge times never exceed a few rounds, so every
+ * byte stays below 128, which lets all Skills be decremented or checked at once
+ * with a handful of bitwise operations. Also holds the maximum recharge time of
+ * every Skill, which every Fight engine sets after a Skill is used.
+ */
+public final class RechargeTimes {
+    public static final long NONE = 0;
+
+    private static final int SKILL_COUNT = Skills.values().length;
+    private static final int MAX_RECHARGE = 0x7F;
+    private static final long LOW_BITS = 0x7F7F7F7F7FL;
+    private static final long HIGH_BITS = 0x8080808080L;
+
+    // Moves the lowest bit of byte i to bit 32 + i, see getRechargingSkills
+    private static final long GATHER_MULTIPLIER = (1L << 32) | (1L << 25) | (1L << 18) | (1L << 11) | (1L << 4);
+
+    // Indexed by Skills ordinal, so no Skill has to be built to look a maximum up
+    private static final int[] MAXIMUM_RECHARGE = new int[SKILL_COUNT];
+
+    static {
+        for (Skills skill : Skills.values())
+            MAXIMUM_RECHARGE[skill.ordinal()] = SkillFactory.getSkill(skill).getMaximumRecharge();
+    }
+
+    private RechargeTimes() {
+    }
+
+    /**
+     * @param skill A Skill.
+     * @return The recharge time the Skill is set to after it is used.
+     */
+    public static int getMaximum(Skills skill) {
+        return MAXIMUM_RECHARGE[skill.ordinal()];
+    }
+
+    /**
+     * @param rechargeTimes The packed recharge times.
+     * @param skill The Skill to look up.
+     * @return The current recharge time of the Skill.
+     */
+    public static int get(long rechargeTimes, Skills skill) {
+        return (int) (rechargeTimes >>> (skill.ordinal() * 8)) & 0xFF;
+    }
+
+    /**
+     * @param rechargeTimes The packed recharge times.
+     * @param skill The Skill to update.
+     * @param rechargeTime The new recharge time, clamped to be at least zero.
+     * @return The packed recharge times with the Skill's recharge time replaced.
+     */
+    public static long set(long rechargeTimes, Skills skill, int rechargeTime) {
+        int shift = skill.ordinal() * 8;
+        long value = Math.min(MAX_RECHARGE, Math.max(0, rechargeTime));
+        return (rechargeTimes & ~(0xFFL << shift)) | (value << shift);
+    }
+
+    /**
+     * Decrements every recharge time that is above zero.
+     * @param rechargeTimes The packed recharge times.
+     * @return The decremented recharge times.
+     */
+    public static long decrementAll(long rechargeTimes) {
+        return rechargeTimes - (nonZeroBytes(rechargeTimes) >>> 7);
+    }
+
+    /**
+     * Builds the mask of recharging Skills, with bit i set when the Skill with ordinal i
+     * has a recharge time above zero.
+     * @param rechargeTimes The packed recharge times.
+     * @return The mask of recharging Skills.
+     */
+    public static int getRechargingSkills(long rechargeTimes) {
+        // One bit per recharging Skill at bit 8 * i, gathered into bits 32 to 36 by the
+        // multiplication. Every partial product lands on a distinct bit, so nothing carries.
+        long recharging = nonZeroBytes(rechargeTimes) >>> 7;
+        return (int) ((recharging * GATHER_MULTIPLIER) >>> 32) & ((1 << SKILL_COUNT) - 1);
+    }
+
+    /**
+     * @param rechargeTimes The packed recharge times.
+     * @return True if any Skill has a recharge time above zero, false otherwise.
+     */
+    public static boolean isAnyRecharging(long rechargeTimes) {
+        return rechargeTimes != NONE;
+    }
+
+    /**
+     * Sets the high bit of every byte that is above zero and clears everything else.
+     */
+    private static long nonZeroBytes(long rechargeTimes) {
+        return (((rechargeTimes & LOW_BITS) + LOW_BITS) | rechargeTimes) & HIGH_BITS;
+    }
+}
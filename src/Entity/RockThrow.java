@@ -1,14 +1,14 @@
-package Entity;
-
-/**
- * Data related to the RockThrow Skill.
- */
-public class RockThrow extends Skill {
-
-    /**
-     * Constructs a new RockThrow Skill.
-     */
-    public RockThrow() {
-        super(Skills.ROCK_THROW);
-    }
+package Entity;
+
+/**
+ * Data related to the RockThrow Skill.
+ */
+public class RockThrow extends Skill {
+
+    /**
+     * Constructs a new RockThrow Skill.
+     */
+    public RockThrow() {
+        super(Skills.ROCK_THROW);
+    }
 }
\ No newline at end of file
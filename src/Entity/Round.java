@@ -1,28 +1,75 @@
-/**
- *This class holds data associated with a round during the game.
- * This data includes the skill choices of each player as well as
- * 2 Damage class instances which store the damage dealt by each pet.
- */
-
-/**
- * @author Peter Humphreys
- */
-
-package Entity;
-
-import java.util.LinkedHashMap;
-import java.util.Map;
-
-public class Round
-{
-    private final Map<Playable, Skills> skillsChosen;
-    private final Map<Playable, Damage> damagesDealt;
-
-    public Round() {
-        skillsChosen = new LinkedHashMap<>();
-        damagesDealt = new LinkedHashMap<>();
-    }
-
-    public Map<Playable, Skills> getSkillsChosen() { return this.skillsChosen; }
-    public Map<Playable, Damage> getDamagesDealt() { return this.damagesDealt; }
-}
+/**
+ *This class holds data associated with a round during the game.
+ * This data includes the skill choices of each player as well as
+ * the damage dealt by each pet. It is a view over one round of a
+ * Fight's RoundLog, which stores the data itself.
+ */
+
+/**
+ * @author Peter Humphreys
+ */
+
+package Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class Round
+{
+    private final RoundLog roundLog;
+    private final int roundIndex;
+
+    /**
+     * Constructs a view of a single round of a RoundLog. Rounds are created by the log.
+     * @param roundLog The log storing the round's data
+     * @param roundIndex The index of the round in the log
+     */
+    Round(RoundLog roundLog, int roundIndex) {
+        this.roundLog = roundLog;
+        this.roundIndex = roundIndex;
+    }
+
+    public int getRoundIndex() { return this.roundIndex; }
+
+    /**
+     * @return The players who acted in this round, in the order they acted
+     */
+    public List<Playable> getPlayers() {
+        List<Playable> players = new ArrayList<>();
+        for (int slot = 0; slot < roundLog.getPlayerCount(); slot++) {
+            if (roundLog.isActive(roundIndex, slot))
+                players.add(roundLog.getPlayers().get(slot));
+        }
+
+        return players;
+    }
+
+    public int getPlayerCount() { return roundLog.getPlayerCount(); }
+
+    /**
+     * @return True if the player in the slot acted in this round, false if they were asleep
+     */
+    public boolean isActive(int slot) { return roundLog.isActive(roundIndex, slot); }
+
+    public Skills getSkillChosen(int slot) { return roundLog.getSkillChosen(roundIndex, slot); }
+
+    public void setSkillChosen(int slot, Skills skill) { roundLog.setSkillChosen(roundIndex, slot, skill); }
+
+    public double getRandomDamage(int slot) { return roundLog.getRandomDamage(roundIndex, slot); }
+
+    public double getConditionalDamage(int slot) { return roundLog.getConditionalDamage(roundIndex, slot); }
+
+    /**
+     * @return The total damage the player in the slot dealt in this round
+     */
+    public double getTotalDamage(int slot) { return getRandomDamage(slot) + getConditionalDamage(slot); }
+
+    /**
+     * @return A new Damage instance holding the damage the player in the slot dealt in this round
+     */
+    public Damage getDamageDealt(int slot) { return new Damage(getRandomDamage(slot), getConditionalDamage(slot)); }
+
+    public void setDamageDealt(int slot, Damage damage) {
+        roundLog.setDamage(roundIndex, slot, damage.getRandomDamage(), damage.getConditionalDamage());
+    }
+}
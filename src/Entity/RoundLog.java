@@ -0,0 +1,111 @@
+package Entity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores the Skills chosen and the damages dealt in every Round of a Fight in
+ * columns, indexed by round and player slot. A player's slot is their index in
+ * the Fight's list of players. Round instances are lightweight views over this log.
+ */
+public class RoundLog {
+    private static final byte INACTIVE = -1;
+    private static final int INITIAL_ROUNDS = 16;
+    private static final Skills[] SKILLS = Skills.values();
+
+    private final List<Playable> players;
+    private final int playerCount;
+    private byte[] skillsChosen;
+    private double[] randomDamages;
+    private double[] conditionalDamages;
+    private int roundCount;
+
+    /**
+     * Constructs a new, empty RoundLog.
+     * @param players The players in the Fight, in slot order.
+     */
+    public RoundLog(List<Playable> players) {
+        this.players = players;
+        this.playerCount = players.size();
+        this.skillsChosen = new byte[INITIAL_ROUNDS * playerCount];
+        this.randomDamages = new double[INITIAL_ROUNDS * playerCount];
+        this.conditionalDamages = new double[INITIAL_ROUNDS * playerCount];
+        this.roundCount = 0;
+    }
+
+    /**
+     * Adds a new Round in which no player has acted yet.
+     * @return The view of the new Round.
+     */
+    public Round addRound() {
+        int required = (roundCount + 1) * playerCount;
+        if (required > skillsChosen.length) {
+            int capacity = Math.max(required, skillsChosen.length * 2);
+            skillsChosen = Arrays.copyOf(skillsChosen, capacity);
+            randomDamages = Arrays.copyOf(randomDamages, capacity);
+            conditionalDamages = Arrays.copyOf(conditionalDamages, capacity);
+        }
+
+        Arrays.fill(skillsChosen, roundCount * playerCount, required, INACTIVE);
+        return new Round(this, roundCount++);
+    }
+
+    /**
+     * @param round The index of a Round, starting at 0.
+     * @return The view of that Round.
+     */
+    public Round getRound(int round) {
+        if (round < 0 || round >= roundCount)
+            throw new IndexOutOfBoundsException("Round " + round + " out of " + roundCount);
+
+        return new Round(this, round);
+    }
+
+    public int getRoundCount() { return roundCount; }
+
+    public List<Playable> getPlayers() { return players; }
+
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * @return A read-only List view of every Round in this log.
+     */
+    public List<Round> asList() {
+        return new AbstractList<Round>() {
+            @Override
+            public Round get(int index) { return getRound(index); }
+
+            @Override
+            public int size() { return roundCount; }
+        };
+    }
+
+    /**
+     * @return True if the player chose a Skill in the Round, false if they were asleep.
+     */
+    public boolean isActive(int round, int slot) {
+        return skillsChosen[round * playerCount + slot] != INACTIVE;
+    }
+
+    /**
+     * @return The Skill the player chose in the Round, or null if they were asleep.
+     */
+    public Skills getSkillChosen(int round, int slot) {
+        byte skill = skillsChosen[round * playerCount + slot];
+        return skill == INACTIVE ? null : SKILLS[skill];
+    }
+
+    public void setSkillChosen(int round, int slot, Skills skill) {
+        skillsChosen[round * playerCount + slot] = (byte) skill.ordinal();
+    }
+
+    public double getRandomDamage(int round, int slot) { return randomDamages[round * playerCount + slot]; }
+
+    public double getConditionalDamage(int round, int slot) { return conditionalDamages[round * playerCount + slot]; }
+
+    public void setDamage(int round, int slot, double randomDamage, double conditionalDamage) {
+        randomDamages[round * playerCount + slot] = randomDamage;
+        conditionalDamages[round * playerCount + slot] = conditionalDamage;
+    }
+}
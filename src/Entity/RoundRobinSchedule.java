@@ -0,0 +1,84 @@
+package Entity;
+
+/**
+ * The Round Robin circle method schedule for a Season, computed directly from the
+ * round and matchup numbers so no round depends on the rounds before it. An odd
+ * number of players is padded with a dummy participant, whose slot is DUMMY_SLOT.
+ *
+ * Participants stand in a circle of n positions. Position 0 holds slot 0 in every
+ * round, and in round r position k holds slot 1 + ((k - 1 - r) mod (n - 1)), which
+ * is where rotating the circle one step per round would have moved it. Matchup i
+ * of a round is position i against position n - 1 - i.
+ */
+public class RoundRobinSchedule {
+    public static final int DUMMY_SLOT = -1;
+
+    private final int playerCount;
+    private final int n; //the number of participants, including the dummy
+
+    /**
+     * Constructs a new RoundRobinSchedule.
+     * @param playerCount The number of players in the Season.
+     */
+    public RoundRobinSchedule(int playerCount) {
+        if (playerCount < 0)
+            throw new IllegalArgumentException("The number of players cannot be negative.");
+
+        this.playerCount = playerCount;
+        this.n = playerCount % 2 == 0 ? playerCount : playerCount + 1;
+    }
+
+    public int getPlayerCount() { return playerCount; }
+
+    /**
+     * @return The number of rounds in the Season.
+     */
+    public int getRoundCount() { return Math.max(n - 1, 0); }
+
+    /**
+     * @return The number of matchups in every round, including the bye of an odd Season.
+     */
+    public int getMatchupCount() { return n / 2; }
+
+    /**
+     * @param round The round, starting at 0.
+     * @param matchup The matchup within the round, starting at 0.
+     * @param side 0 for the first participant of the matchup, 1 for the second.
+     * @return The Season slot of the participant, or DUMMY_SLOT for a bye.
+     */
+    public int getSlot(int round, int matchup, int side) {
+        checkRound(round);
+        if (matchup < 0 || matchup >= getMatchupCount())
+            throw new IndexOutOfBoundsException("Matchup " + matchup + " is not in a round of " + getMatchupCount() + " matchups.");
+
+        int position = side == 0 ? matchup : n - 1 - matchup;
+        return getSlotAt(round, position);
+    }
+
+    /**
+     * @param round The round, starting at 0.
+     * @param slot The Season slot of a player.
+     * @return The Season slot of the player's opponent in the round, or DUMMY_SLOT for a bye.
+     */
+    public int getOpponentSlot(int round, int slot) {
+        checkRound(round);
+        if (slot < 0 || slot >= playerCount)
+            throw new IndexOutOfBoundsException("Slot " + slot + " is not in a Season of " + playerCount + " players.");
+
+        int position = slot == 0 ? 0 : 1 + Math.floorMod(slot - 1 + round, n - 1);
+        return getSlotAt(round, n - 1 - position);
+    }
+
+    /**
+     * @return The slot standing at a position of the circle in a round.
+     */
+    private int getSlotAt(int round, int position) {
+        int slot = position == 0 ? 0 : 1 + Math.floorMod(position - 1 - round, n - 1);
+        return slot < playerCount ? slot : DUMMY_SLOT;
+    }
+
+    private void checkRound(int round) {
+        if (round < 0 || round >= getRoundCount())
+            throw new IndexOutOfBoundsException("Round " + round + " is not in a Season of " + getRoundCount() + " rounds.");
+    }
+}
@@ -1,14 +1,14 @@
-package Entity;
-
-/**
- * Data related to the ScissorPoke Skill.
- */
-public class ScissorPoke extends Skill {
-
-    /**
-     * Constructs a new ScissorPoke Skill.
-     */
-    public ScissorPoke() {
-        super(Skills.SCISSORS_POKE);
-    }
+package Entity;
+
+/**
+ * Data related to the ScissorPoke Skill.
+ */
+public class ScissorPoke extends Skill {
+
+    /**
+     * Constructs a new ScissorPoke Skill.
+     */
+    public ScissorPoke() {
+        super(Skills.SCISSORS_POKE);
+    }
 }
\ No newline at end of file
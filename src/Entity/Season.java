@@ -1,91 +1,131 @@
-package Entity;
-
-import Control.SeasonIterator;
-import java.util.*;
-
-/**
- * The Season class is created by the SeasonController and keeps track of all
- * relevant information pertaining to the season, such as the players participating, the win counts,
- * the list of previous battles, and what battle is currently being fought.
- */
-public class Season implements Iterable <SeasonRound>
-{
-    private final List<Playable> players;
-    private List<Battle> battleList;
-    private final HashMap<Integer, Integer> winMap;
-    private int battleNumber;
-
-    /**
-     * The constructor for the Season object takes a list of participating players as a parameter
-     * and initializes a place for them in the HashMap that keeps track of win counts (initialized to 0 wins).
-     * Also initializes the list of Battles that will hold previous Battles for recall info if necessary, and
-     * sets the BattleNumber to 0.
-     * @param players
-     */
-    public Season(List<Playable> players)
-    {
-        this.players = players;
-        battleList = new ArrayList<>();
-        winMap = new HashMap<>();
-        battleNumber = 0;
-
-        // Add each pet in the list of Playables to the HashMap and start them all at 0 wins.
-        for (int i = 0; i < players.size(); i++)
-            this.winMap.put(i, 0);
-    }
-
-    /**
-     *
-     * @return the list of players who are participating in the Season
-     */
-    public List<Playable> getPlayers() { return players; }
-
-    /**
-     *
-     * @return the list of Battles that have taken place so far in the Season
-     */
-    public List<Battle> getBattleList() { return battleList; }
-
-    /**
-     * Increments the counter that keeps track of what Battle is currently in play for the Season
-     */
-    public void incrementBattleNumber() { battleNumber++; }
-
-    /**
-     *
-     * @return the integer that corresponds to what the Battle count currently is in the Season
-     */
-    public int getBattleNumber() { return this.battleNumber; }
-
-    /**
-     *
-     * @param key is the index value for the winMap to determine which player has their win count incremented
-     */
-    public void incrementWins(int key) { this.winMap.put(key, this.winMap.get(key) + 1); }
-
-    /**
-     *
-     * @param key is the index of the player to return the wins for
-     * @return the integer corresponding to how many Battle wins that player has in the Season.
-     */
-    public int getWins(int key) { return this.winMap.get(key); }
-
-    /**
-     *
-     * @return the player who has the most Battle wins at the conclusion of the Season.
-     * If there is a tie, currently the foremost player in the list will be treated as the winner.
-     */
-    public Playable getWinner()
-    {
-        int maxIndex = 0;
-        for (int i = 1; i < players.size(); i++)
-        {
-            if (winMap.get(i) > winMap.get(maxIndex))
-                maxIndex = i;
-        }
-        return players.get(maxIndex);
-    }
-
-    @Override
-    public Iterator<SeasonRound> iterator() { return new SeasonIterator(this); }
-}
+package Entity;
+
+import Control.SeasonIterator;
+import java.util.*;
+
+/**
+ * The Season class is created by the SeasonController and keeps track of all
+ * relevant information pertaining to the season, such as the players participating, the win counts,
+ * the list of previous battles, and what battle is currently being fought.
+ */
+public class Season implements Iterable <SeasonRound>
+{
+    private final List<Playable> players;
+    private List<Battle> battleList;
+    private final Standings standings;
+    private final RoundRobinSchedule schedule;
+    private int battleNumber;
+
+    /**
+     * The constructor for the Season object takes a list of participating players as a parameter
+     * and initializes a place for them in the Standings that keep track of win counts (initialized to 0 wins).
+     * Also initializes the list of Battles that will hold previous Battles for recall info if necessary, and
+     * sets the BattleNumber to 0.
+     * @param players
+     */
+    public Season(List<Playable> players)
+    {
+        this.players = players;
+        battleList = new ArrayList<>();
+        standings = new Standings(players.size());
+        schedule = new RoundRobinSchedule(players.size());
+        battleNumber = 0;
+    }
+
+    /**
+     * Constructs a Season resumed from a checkpoint. Only Battles played after resuming are added to the list of
+     * Battles, while win counts and the Battle number carry on from the checkpoint.
+     * @param players the players participating in the Season, in the same order as when the checkpoint was taken
+     * @param wins the number of Battle wins of each player
+     * @param battleNumber the number of Battles played before the checkpoint
+     */
+    public Season(List<Playable> players, int[] wins, int battleNumber)
+    {
+        if (wins.length != players.size())
+            throw new IllegalArgumentException("Expected win counts for " + players.size() + " players but found " + wins.length + ".");
+
+        this.players = players;
+        battleList = new ArrayList<>();
+        standings = new Standings(wins);
+        schedule = new RoundRobinSchedule(players.size());
+        this.battleNumber = battleNumber;
+    }
+
+    /**
+     *
+     * @return the list of players who are participating in the Season
+     */
+    public List<Playable> getPlayers() { return players; }
+
+    /**
+     *
+     * @return the list of Battles that have taken place so far in the Season
+     */
+    public List<Battle> getBattleList() { return battleList; }
+
+    /**
+     * Increments the counter that keeps track of what Battle is currently in play for the Season
+     */
+    public void incrementBattleNumber() { battleNumber++; }
+
+    /**
+     *
+     * @return the integer that corresponds to what the Battle count currently is in the Season
+     */
+    public int getBattleNumber() { return this.battleNumber; }
+
+    /**
+     *
+     * @param key is the index of the player to have their win count incremented
+     */
+    public void incrementWins(int key) { this.standings.incrementWins(key); }
+
+    /**
+     *
+     * @param key is the index of the player to return the wins for
+     * @return the integer corresponding to how many Battle wins that player has in the Season.
+     */
+    public int getWins(int key) { return this.standings.getWins(key); }
+
+    /**
+     *
+     * @return the player who has the most Battle wins at the conclusion of the Season.
+     * If there is a tie, currently the foremost player in the list will be treated as the winner.
+     */
+    public Playable getWinner() { return players.get(standings.getLeader()); }
+
+    /**
+     *
+     * @return the Battle win counts of every player, kept ordered for leaderboards as each Battle finishes
+     */
+    public Standings getStandings() { return standings; }
+
+    /**
+     *
+     * @return the schedule of every round of the Season
+     */
+    public RoundRobinSchedule getSchedule() { return schedule; }
+
+    /**
+     *
+     * @param roundNumber the number of the round, starting at 1
+     * @return the SeasonRound for that round, computed without generating the rounds before it
+     */
+    public SeasonRound getRound(int roundNumber)
+    {
+        if (roundNumber < 1 || roundNumber > schedule.getRoundCount())
+            throw new IndexOutOfBoundsException("Round " + roundNumber + " is not in a Season of " + schedule.getRoundCount() + " rounds.");
+
+        return new SeasonRound(players, schedule, roundNumber - 1);
+    }
+
+    @Override
+    public Iterator<SeasonRound> iterator() { return new SeasonIterator(this); }
+
+    /**
+     *
+     * @param firstRound the number of the round to start at, starting at 1
+     * @return an Iterator over the rounds of the Season from firstRound onwards
+     */
+    public Iterator<SeasonRound> iterator(int firstRound) { return new SeasonIterator(this, firstRound); }
+}
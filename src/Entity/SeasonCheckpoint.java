@@ -0,0 +1,160 @@
+package Entity;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.List;
+
+/**
+ * The progress of a Season after its last completed round: how many rounds have been
+ * played, how many Battles, each player's wins, and the state of every random number
+ * generator the rest of the Season depends on. Checkpoints are written to a compact
+ * binary file, first to a temporary file beside it that is then moved into place, so
+ * a crash while writing never leaves a damaged checkpoint behind.
+ */
+public class SeasonCheckpoint {
+    /**
+     * Stands in for the state of a random number generator that is not checkpointed.
+     * Generator states are 48 bits, so they are never negative.
+     */
+    public static final long NO_STATE = -1;
+
+    private static final int MAGIC = 0x42505343; // "BPSC"
+    private static final int VERSION = 1;
+
+    private final int rosterHash;
+    private final int roundsCompleted;
+    private final int battleNumber;
+    private final long rngState;
+    private final int[] wins;
+    private final long[] petRandomStates;
+
+    /**
+     * @param rosterHash The hash of the pet names of the Season, in order.
+     * @param roundsCompleted The number of SeasonRounds played.
+     * @param battleNumber The number of Battles played, including byes.
+     * @param rngState The state of the Season's shared random number generator, or NO_STATE.
+     * @param wins The Battle wins of each player.
+     * @param petRandomStates The state of each AIPet's random number generator, or NO_STATE for other players.
+     */
+    public SeasonCheckpoint(int rosterHash, int roundsCompleted, int battleNumber, long rngState, int[] wins, long[] petRandomStates) {
+        this.rosterHash = rosterHash;
+        this.roundsCompleted = roundsCompleted;
+        this.battleNumber = battleNumber;
+        this.rngState = rngState;
+        this.wins = wins;
+        this.petRandomStates = petRandomStates;
+    }
+
+    /**
+     * Captures the progress of a Season.
+     * @param season The Season being played.
+     * @param roundsCompleted The number of SeasonRounds played.
+     * @param rngState The state of the Season's shared random number generator, or NO_STATE.
+     * @return A new checkpoint.
+     */
+    public static SeasonCheckpoint capture(Season season, int roundsCompleted, long rngState) {
+        List<Playable> players = season.getPlayers();
+        int[] wins = new int[players.size()];
+        long[] petRandomStates = new long[players.size()];
+
+        for (int i = 0; i < players.size(); i++) {
+            wins[i] = season.getWins(i);
+            petRandomStates[i] = players.get(i) instanceof AIPet ? ((AIPet) players.get(i)).getRandomState() : NO_STATE;
+        }
+
+        return new SeasonCheckpoint(getRosterHash(players), roundsCompleted, season.getBattleNumber(), rngState, wins, petRandomStates);
+    }
+
+    /**
+     * @param players The players of a Season.
+     * @return A hash of the players' pet names, in order, used to check a checkpoint belongs to a roster.
+     */
+    public static int getRosterHash(List<Playable> players) {
+        int hash = 1;
+        for (Playable player : players)
+            hash = 31 * hash + player.getPetName().hashCode();
+
+        return hash;
+    }
+
+    /**
+     * Reads a checkpoint written by write().
+     * @param path The file to read.
+     * @return The checkpoint.
+     * @throws IOException If the file cannot be read or is not a Season checkpoint.
+     */
+    public static SeasonCheckpoint read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IOException("\"" + path + "\" is not a supported Season checkpoint.");
+
+            int playerCount = in.readInt();
+            int rosterHash = in.readInt();
+            int roundsCompleted = in.readInt();
+            int battleNumber = in.readInt();
+            long rngState = in.readLong();
+
+            int[] wins = new int[playerCount];
+            for (int i = 0; i < playerCount; i++)
+                wins[i] = in.readInt();
+
+            long[] petRandomStates = new long[playerCount];
+            for (int i = 0; i < playerCount; i++)
+                petRandomStates[i] = in.readLong();
+
+            return new SeasonCheckpoint(rosterHash, roundsCompleted, battleNumber, rngState, wins, petRandomStates);
+        }
+    }
+
+    /**
+     * Writes the checkpoint, replacing any earlier checkpoint at the same path only once
+     * the new one is completely on disk.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        AtomicFile.write(path, out -> {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(wins.length);
+            out.writeInt(rosterHash);
+            out.writeInt(roundsCompleted);
+            out.writeInt(battleNumber);
+            out.writeLong(rngState);
+            for (int win : wins)
+                out.writeInt(win);
+            for (long petRandomState : petRandomStates)
+                out.writeLong(petRandomState);
+        });
+    }
+
+    /**
+     * Checks the checkpoint belongs to a roster and restores every AIPet's random number generator.
+     * @param players The players of the Season, in the same order as when the checkpoint was taken.
+     */
+    public void restorePets(List<Playable> players) {
+        if (players.size() != wins.length || getRosterHash(players) != rosterHash)
+            throw new IllegalArgumentException("The checkpoint was taken for a different roster of pets.");
+
+        for (int i = 0; i < players.size(); i++) {
+            if (petRandomStates[i] != NO_STATE && players.get(i) instanceof AIPet)
+                ((AIPet) players.get(i)).setRandomState(petRandomStates[i]);
+        }
+    }
+
+    /**
+     * @param players The players of the Season, in the same order as when the checkpoint was taken.
+     * @return A Season holding the wins and Battle number of the checkpoint.
+     */
+    public Season createSeason(List<Playable> players) {
+        return new Season(players, wins, battleNumber);
+    }
+
+    public int getRoundsCompleted() { return roundsCompleted; }
+
+    public int getBattleNumber() { return battleNumber; }
+
+    public long getRngState() { return rngState; }
+
+    public int getWins(int slot) { return wins[slot]; }
+}
@@ -1,28 +1,66 @@
-package Entity;
-
-import java.util.List;
-
-/**
- * Stores the participants list in a round of a season
- */
-public class SeasonRound {
-    private List<List<Playable>> participantsList;
-
-    /**
-     * Parameterized constructor, initializes a SeasonRound instance with a List of  a List of Playable objects.
-     * Assigns the List to the one passed in.
-     *
-     * @param participantsList List of List of Playable
-     */
-    public SeasonRound(List<List<Playable>> participantsList) {
-        this.participantsList = participantsList;
-    }
-
-    public List<List<Playable>> getParticipantsList() {
-        return participantsList;
-    }
-
-    public void setParticipantsList(List<List<Playable>> participantsList) {
-        this.participantsList = participantsList;
-    }
-}
+package Entity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A round of a Season. Matchups are computed from the Season's RoundRobinSchedule
+ * when they are read, so creating a round costs nothing however many players the
+ * Season has. Each matchup is available both as players and as the players' slots
+ * in the Season's list of players.
+ */
+public class SeasonRound {
+    private final List<Playable> players;
+    private final RoundRobinSchedule schedule;
+    private final int round;
+
+    /**
+     * Parameterized constructor, initializes a SeasonRound instance for one round of a schedule.
+     *
+     * @param players The Season's list of players
+     * @param schedule The Season's schedule
+     * @param round The round of the schedule, starting at 0
+     */
+    public SeasonRound(List<Playable> players, RoundRobinSchedule schedule, int round) {
+        this.players = players;
+        this.schedule = schedule;
+        this.round = round;
+    }
+
+    /**
+     * @return The round of the schedule, starting at 0.
+     */
+    public int getRound() { return round; }
+
+    public int getMatchupCount() { return schedule.getMatchupCount(); }
+
+    /**
+     * @param matchup The matchup within the round, starting at 0.
+     * @param side 0 for the first participant of the matchup, 1 for the second.
+     * @return The Season slot of the participant, or RoundRobinSchedule.DUMMY_SLOT for a bye.
+     */
+    public int getParticipantSlot(int matchup, int side) {
+        return schedule.getSlot(round, matchup, side);
+    }
+
+    /**
+     * @return Every matchup of the round as a List of its two Playables, with null
+     * standing in for a bye. Each matchup is created when it is read.
+     */
+    public List<List<Playable>> getParticipantsList() {
+        return new AbstractList<List<Playable>>() {
+            @Override
+            public List<Playable> get(int matchup) {
+                return Arrays.asList(getParticipant(getParticipantSlot(matchup, 0)), getParticipant(getParticipantSlot(matchup, 1)));
+            }
+
+            @Override
+            public int size() { return getMatchupCount(); }
+        };
+    }
+
+    private Playable getParticipant(int slot) {
+        return slot == RoundRobinSchedule.DUMMY_SLOT ? null : players.get(slot);
+    }
+}
@@ -0,0 +1,110 @@
+package Entity;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.List;
+
+/**
+ * The results a worker process reports for its shard of a Season: how many Battles
+ * and Fights it played and how many Battles each pet won, along with a hash of the
+ * settings it played with. Written to a small binary file, first to a temporary file
+ * that is then moved into place, so the coordinator never reads a half-written result.
+ */
+public class ShardResult {
+    private static final int MAGIC = 0x42505352; // "BPSR"
+    private static final int VERSION = 2;
+
+    private final int shard;
+    private final int settingsHash;
+    private final int battleCount;
+    private final long fightCount;
+    private final int[] wins;
+
+    /**
+     * @param shard The index of the shard, starting at 0.
+     * @param settingsHash The hash of the settings the shard was played with, from getSettingsHash.
+     * @param battleCount The number of Battles the shard played.
+     * @param fightCount The number of Fights the shard played.
+     * @param wins The number of Battles each pet of the Season won in this shard.
+     */
+    public ShardResult(int shard, int settingsHash, int battleCount, long fightCount, int[] wins) {
+        this.shard = shard;
+        this.settingsHash = settingsHash;
+        this.battleCount = battleCount;
+        this.fightCount = fightCount;
+        this.wins = wins;
+    }
+
+    /**
+     * @param players The roster of the Season, in order.
+     * @param gameSettings The settings providing the game seed and the number of Fights per Battle.
+     * @param shardCount The number of shards.
+     * @return A hash of everything that decides a shard's results, used to check every shard played the same Season.
+     */
+    public static int getSettingsHash(List<Playable> players, GameSettings gameSettings, int shardCount) {
+        int hash = SeasonCheckpoint.getRosterHash(players);
+        for (Playable player : players) {
+            hash = 31 * hash + player.getPetType().ordinal();
+            hash = 31 * hash + Double.hashCode(player.getStartingHp());
+            hash = 31 * hash + (player instanceof AIPet ? ((AIPet) player).getSeed() : 0);
+        }
+
+        hash = 31 * hash + gameSettings.getSeed();
+        hash = 31 * hash + gameSettings.getFightsPerBattle();
+        return 31 * hash + shardCount;
+    }
+
+    /**
+     * Reads a result written by write().
+     * @param path The file to read.
+     * @return The result.
+     * @throws IOException If the file cannot be read or is not a shard result.
+     */
+    public static ShardResult read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IOException("\"" + path + "\" is not a supported shard result.");
+
+            int shard = in.readInt();
+            int settingsHash = in.readInt();
+            int battleCount = in.readInt();
+            long fightCount = in.readLong();
+            int[] wins = new int[in.readInt()];
+            for (int i = 0; i < wins.length; i++)
+                wins[i] = in.readInt();
+
+            return new ShardResult(shard, settingsHash, battleCount, fightCount, wins);
+        }
+    }
+
+    /**
+     * Writes the result, making it visible under its final name only once it is completely on disk.
+     * @param path The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path path) throws IOException {
+        AtomicFile.write(path, out -> {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(shard);
+            out.writeInt(settingsHash);
+            out.writeInt(battleCount);
+            out.writeLong(fightCount);
+            out.writeInt(wins.length);
+            for (int win : wins)
+                out.writeInt(win);
+        });
+    }
+
+    public int getShard() { return shard; }
+
+    public int getSettingsHash() { return settingsHash; }
+
+    public int getBattleCount() { return battleCount; }
+
+    public long getFightCount() { return fightCount; }
+
+    public int getPlayerCount() { return wins.length; }
+
+    public int getWins(int slot) { return wins[slot]; }
+}
@@ -1,19 +1,27 @@
-package Entity;
-
-import Control.Utils;
-
-public enum Skills
-{
-	ROCK_THROW,
-	SCISSORS_POKE,
-	PAPER_CUT,
-	SHOOT_THE_MOON,
-	REVERSAL_OF_FORTUNE;
-	
-	@Override
-	public String toString()
-	{		
-		return Utils.convertEnumString(this.name());
-	}
-
-}
+package Entity;
+
+import Control.Utils;
+
+public enum Skills
+{
+	ROCK_THROW,
+	SCISSORS_POKE,
+	PAPER_CUT,
+	SHOOT_THE_MOON,
+	REVERSAL_OF_FORTUNE;
+	
+	@Override
+	public String toString()
+	{		
+		return Utils.convertEnumString(this.name());
+	}
+
+	/**
+	 * @return A bit mask with only this Skill's bit set, used to store sets of Skills in an int
+	 */
+	public int getMask()
+	{
+		return 1 << this.ordinal();
+	}
+
+}
@@ -0,0 +1,248 @@
+package Entity;
+
+/**
+ * Win counts for the players of a Battle, Season or other competition, kept in
+ * primitive arrays so that recording a win never boxes. Players are ordered in an
+ * indexed max-heap by wins, with ties going to the foremost player, and a Fenwick
+ * tree over win counts counts the players ahead of any given player.
+ *
+ * Recording a win and finding a player's rank cost O(log n), the leader is found in
+ * O(1) and the top k players in O(k log k), so a leaderboard can be read after every
+ * Battle of a large Season. Wins are only ever added, never removed.
+ */
+public class Standings
+{
+    private final int[] wins;
+    private final int[] heap; // heap[i] is a slot, the leader is heap[0]
+    private final int[] heapPositions; // heapPositions[slot] is the slot's index in heap
+    private int[] winCountTree; // Fenwick tree, counting the players with each number of wins
+
+    /**
+     * @param playerCount the number of players, who all start at 0 wins
+     */
+    public Standings(int playerCount)
+    {
+        this.wins = new int[playerCount];
+        this.heap = new int[playerCount];
+        this.heapPositions = new int[playerCount];
+        this.winCountTree = new int[Math.max(playerCount, 1) + 1];
+
+        // With equal wins, slot order is already a valid heap
+        for (int slot = 0; slot < playerCount; slot++)
+        {
+            heap[slot] = slot;
+            heapPositions[slot] = slot;
+        }
+        addToTree(0, playerCount);
+    }
+
+    /**
+     * @param wins the number of wins of each player, such as those saved in a checkpoint
+     */
+    public Standings(int[] wins)
+    {
+        this.wins = wins.clone();
+        this.heap = new int[wins.length];
+        this.heapPositions = new int[wins.length];
+        this.winCountTree = new int[Math.max(wins.length, 1) + 1];
+
+        for (int slot = 0; slot < wins.length; slot++)
+        {
+            if (wins[slot] < 0)
+                throw new IllegalArgumentException("Win counts cannot be negative.");
+
+            heap[slot] = slot;
+            heapPositions[slot] = slot;
+            addToTree(wins[slot], 1);
+        }
+
+        for (int position = wins.length / 2 - 1; position >= 0; position--)
+            siftDown(position);
+    }
+
+    public int getPlayerCount() { return wins.length; }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return the number of wins the player has
+     */
+    public int getWins(int slot) { return wins[slot]; }
+
+    /**
+     * Records a win for a player.
+     * @param slot the index of the player
+     */
+    public void incrementWins(int slot)
+    {
+        addToTree(wins[slot], -1);
+        wins[slot]++;
+        addToTree(wins[slot], 1);
+
+        siftUp(heapPositions[slot]);
+    }
+
+    /**
+     *
+     * @return the index of the player with the most wins, with ties going to the foremost player, or -1 if there are no players
+     */
+    public int getLeader() { return heap.length == 0 ? -1 : heap[0]; }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return 1 plus the number of players with more wins, so players with equal wins share a rank
+     */
+    public int getRank(int slot)
+    {
+        return 1 + getPlayerCount() - countAtMost(wins[slot]);
+    }
+
+    /**
+     *
+     * @param k the number of players to return
+     * @return the indexes of the k players with the most wins, in order, or of every player if there are fewer than k
+     */
+    public int[] getTopSlots(int k)
+    {
+        k = Math.min(k, heap.length);
+        int[] top = new int[k];
+        if (k == 0)
+            return top;
+
+        // Only the children of heap entries already taken can be next, so at most k + 1 candidates are ever waiting
+        int[] candidates = new int[k + 1];
+        int candidateCount = 0;
+        candidates[candidateCount++] = 0;
+
+        for (int i = 0; i < k; i++)
+        {
+            int best = candidates[0];
+            candidates[0] = candidates[--candidateCount];
+            siftDownCandidates(candidates, candidateCount);
+
+            top[i] = heap[best];
+            for (int child = 2 * best + 1; child <= 2 * best + 2 && child < heap.length; child++)
+            {
+                if (candidateCount < candidates.length)
+                    siftUpCandidates(candidates, candidateCount++, child);
+            }
+        }
+
+        return top;
+    }
+
+    /**
+     * @return true if the player in slot a is ahead of the player in slot b
+     */
+    private boolean isAhead(int a, int b)
+    {
+        return wins[a] != wins[b] ? wins[a] > wins[b] : a < b;
+    }
+
+    private void siftUp(int position)
+    {
+        int slot = heap[position];
+        while (position > 0)
+        {
+            int parent = (position - 1) / 2;
+            if (!isAhead(slot, heap[parent]))
+                break;
+
+            heap[position] = heap[parent];
+            heapPositions[heap[position]] = position;
+            position = parent;
+        }
+
+        heap[position] = slot;
+        heapPositions[slot] = position;
+    }
+
+    private void siftDown(int position)
+    {
+        int slot = heap[position];
+        while (2 * position + 1 < heap.length)
+        {
+            int child = 2 * position + 1;
+            if (child + 1 < heap.length && isAhead(heap[child + 1], heap[child]))
+                child++;
+            if (!isAhead(heap[child], slot))
+                break;
+
+            heap[position] = heap[child];
+            heapPositions[heap[position]] = position;
+            position = child;
+        }
+
+        heap[position] = slot;
+        heapPositions[slot] = position;
+    }
+
+    private void siftUpCandidates(int[] candidates, int position, int heapPosition)
+    {
+        while (position > 0)
+        {
+            int parent = (position - 1) / 2;
+            if (!isAhead(heap[heapPosition], heap[candidates[parent]]))
+                break;
+
+            candidates[position] = candidates[parent];
+            position = parent;
+        }
+
+        candidates[position] = heapPosition;
+    }
+
+    private void siftDownCandidates(int[] candidates, int count)
+    {
+        int position = 0;
+        while (2 * position + 1 < count)
+        {
+            int child = 2 * position + 1;
+            if (child + 1 < count && isAhead(heap[candidates[child + 1]], heap[candidates[child]]))
+                child++;
+            if (!isAhead(heap[candidates[child]], heap[candidates[position]]))
+                break;
+
+            int swap = candidates[position];
+            candidates[position] = candidates[child];
+            candidates[child] = swap;
+            position = child;
+        }
+    }
+
+    /**
+     * Adds to the number of players with a given number of wins, growing the tree when a win count first passes its size.
+     */
+    private void addToTree(int winCount, int delta)
+    {
+        if (winCount + 1 >= winCountTree.length)
+        {
+            int[] counts = new int[winCountTree.length];
+            for (int w = 0; w + 1 < winCountTree.length; w++)
+                counts[w] = countAtMost(w) - (w == 0 ? 0 : countAtMost(w - 1));
+
+            winCountTree = new int[Math.max(winCountTree.length * 2, winCount + 2)];
+            for (int w = 0; w < counts.length; w++)
+            {
+                if (counts[w] != 0)
+                    addToTree(w, counts[w]);
+            }
+        }
+
+        for (int i = winCount + 1; i < winCountTree.length; i += i & -i)
+            winCountTree[i] += delta;
+    }
+
+    /**
+     * @return the number of players with at most the given number of wins
+     */
+    private int countAtMost(int winCount)
+    {
+        int count = 0;
+        for (int i = Math.min(winCount + 1, winCountTree.length - 1); i > 0; i -= i & -i)
+            count += winCountTree[i];
+
+        return count;
+    }
+}
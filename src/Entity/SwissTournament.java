@@ -0,0 +1,167 @@
+package Entity;
+
+import java.util.*;
+
+/**
+ * The SwissTournament class is created by the SwissController and keeps track of all
+ * relevant information pertaining to a Swiss-system tournament, such as the players
+ * participating, their scores, who has already played whom, and the list of previous
+ * battles. Each Battle win, or bye, scores one point.
+ */
+public class SwissTournament
+{
+    private final List<Playable> players;
+    private final List<Battle> battleList;
+    private final int[] scores;
+    private final boolean[] byes;
+    private final Set<Long> pairings;
+    private final int roundCount;
+    private int battleNumber;
+
+    /**
+     * @param players the players participating in the tournament
+     * @param roundCount the number of rounds the tournament will last
+     */
+    public SwissTournament(List<Playable> players, int roundCount)
+    {
+        this.players = players;
+        this.battleList = new ArrayList<>();
+        this.scores = new int[players.size()];
+        this.byes = new boolean[players.size()];
+        this.pairings = new HashSet<>();
+        this.roundCount = roundCount;
+        this.battleNumber = 0;
+    }
+
+    /**
+     *
+     * @param playerCount the number of players in the tournament
+     * @return the number of rounds needed to find a single undefeated player, log2 of the player count rounded up
+     */
+    public static int getDefaultRoundCount(int playerCount)
+    {
+        return playerCount < 2 ? 0 : 32 - Integer.numberOfLeadingZeros(playerCount - 1);
+    }
+
+    /**
+     *
+     * @return the list of players who are participating in the tournament
+     */
+    public List<Playable> getPlayers() { return players; }
+
+    /**
+     *
+     * @return the list of Battles that have taken place so far in the tournament
+     */
+    public List<Battle> getBattleList() { return battleList; }
+
+    public int getRoundCount() { return roundCount; }
+
+    /**
+     * Increments the counter that keeps track of what Battle is currently in play for the tournament
+     */
+    public void incrementBattleNumber() { battleNumber++; }
+
+    public int getBattleNumber() { return battleNumber; }
+
+    /**
+     *
+     * @param slot the index of the player in the list of players
+     * @return the number of points the player has scored
+     */
+    public int getScore(int slot) { return scores[slot]; }
+
+    /**
+     *
+     * @param slot the index of the player who won a Battle or received a bye
+     */
+    public void incrementScore(int slot) { scores[slot]++; }
+
+    /**
+     *
+     * @param slot the index of the player
+     * @return true if the player has already received a bye
+     */
+    public boolean hasHadBye(int slot) { return byes[slot]; }
+
+    /**
+     * Records that a player received a bye and scores them a point for it.
+     * @param slot the index of the player
+     */
+    public void awardBye(int slot)
+    {
+        byes[slot] = true;
+        scores[slot]++;
+    }
+
+    /**
+     * Records that two players have been paired, so they are not paired again.
+     * @param first the index of one player
+     * @param second the index of the other player
+     */
+    public void addPairing(int first, int second) { pairings.add(getPairingKey(first, second)); }
+
+    /**
+     *
+     * @return true if the two players have already been paired in this tournament
+     */
+    public boolean havePlayed(int first, int second) { return pairings.contains(getPairingKey(first, second)); }
+
+    private static long getPairingKey(int first, int second)
+    {
+        return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+    }
+
+    /**
+     *
+     * @return the slots of every player, ordered by score from highest to lowest, then by slot
+     */
+    public int[] getStandingSlots()
+    {
+        // Counting sort, scores can never exceed the number of rounds
+        int maxScore = 0;
+        for (int score : scores)
+            maxScore = Math.max(maxScore, score);
+
+        int[] starts = new int[maxScore + 2];
+        for (int score : scores)
+            starts[maxScore - score + 1]++;
+        for (int i = 1; i < starts.length; i++)
+            starts[i] += starts[i - 1];
+
+        int[] standings = new int[scores.length];
+        for (int slot = 0; slot < scores.length; slot++)
+            standings[starts[maxScore - scores[slot]]++] = slot;
+
+        return standings;
+    }
+
+    /**
+     *
+     * @return the list of players ordered by score from highest to lowest
+     */
+    public List<Playable> getStandings()
+    {
+        List<Playable> standings = new ArrayList<>(players.size());
+        for (int slot : getStandingSlots())
+            standings.add(players.get(slot));
+
+        return standings;
+    }
+
+    /**
+     *
+     * @return the player with the highest score.
+     * If there is a tie, the foremost player in the list will be treated as the winner.
+     */
+    public Playable getWinner()
+    {
+        int maxIndex = 0;
+        for (int i = 1; i < scores.length; i++)
+        {
+            if (scores[i] > scores[maxIndex])
+                maxIndex = i;
+        }
+        return players.get(maxIndex);
+    }
+}
@@ -0,0 +1,134 @@
+package Control;
+
+import Entity.*;
+import Testing.Rosters;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks the results of single and double elimination Brackets, and that a double elimination
+ * final won by the losers' bracket champion is followed by a deciding rematch.
+ */
+public class BracketControllerTest {
+    private static final int MAX_PLAYERS = 9;
+    private static final int SEEDS = 40;
+
+    /**
+     * Records the slots of the winner and loser of every Battle, in the order they end.
+     */
+    private static class ResultRecorder implements GameEventSink {
+        private final Map<String, Integer> slots;
+        private final List<int[]> results;
+
+        private ResultRecorder(List<Playable> playables) {
+            this.slots = new HashMap<>();
+            for (int slot = 0; slot < playables.size(); slot++)
+                slots.put(playables.get(slot).getPetName(), slot);
+            this.results = new ArrayList<>();
+        }
+
+        @Override
+        public void onSeasonBattleEnded(GameEvent.SeasonBattleEnded event) {
+            Battle battle = event.getBattle();
+            int winnerIndex = battle.getWinnerIndex();
+            results.add(new int[] {
+                    slots.get(battle.getPlayers().get(winnerIndex).getPetName()),
+                    slots.get(battle.getPlayers().get(1 - winnerIndex).getPetName()) });
+        }
+    }
+
+    private static List<int[]> playBracket(BracketTypes type, int playerCount, int seed, ForkJoinPool pool, Bracket[] bracketOut) {
+        List<Playable> playables = Rosters.createAIPets(playerCount, i -> 20 + 3 * i, i -> i);
+        ResultRecorder recorder = new ResultRecorder(playables);
+        GameSettings gameSettings = new GameSettings.GameSettingsBuilder()
+                .withPlayerCount(playerCount).withFightsPerBattle(1).withSeed(seed).build();
+
+        bracketOut[0] = new BracketController(gameSettings, type, pool, new GameEventBus(recorder)).start(playables);
+        return recorder.results;
+    }
+
+    public void testSingleEliminationLosesEveryoneButTheChampionOnce() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int playerCount = 2; playerCount <= MAX_PLAYERS; playerCount++) {
+                for (int seed = 0; seed < SEEDS; seed++) {
+                    Bracket[] bracket = new Bracket[1];
+                    List<int[]> results = playBracket(BracketTypes.SINGLE_ELIMINATION, playerCount, seed, pool, bracket);
+                    String where = playerCount + " players with seed " + seed;
+
+                    assertEquals(playerCount - 1, results.size(), "Battles with " + where);
+                    for (int slot = 0; slot < playerCount; slot++)
+                        assertEquals(slot == bracket[0].getChampionSlot() ? 0 : 1, bracket[0].getLosses(slot), "Losses of slot " + slot + " with " + where);
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testDoubleEliminationFinalIsResetWhenTheLosersChampionWins() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        int resets = 0;
+
+        try {
+            for (int playerCount = 2; playerCount <= MAX_PLAYERS; playerCount++) {
+                for (int seed = 0; seed < SEEDS; seed++) {
+                    Bracket[] bracket = new Bracket[1];
+                    List<int[]> results = playBracket(BracketTypes.DOUBLE_ELIMINATION, playerCount, seed, pool, bracket);
+                    String where = playerCount + " players with seed " + seed;
+
+                    // The final is the first Battle between the last two players, once one of them has lost in the
+                    // winners' bracket: the winners' bracket champion against the losers' bracket champion
+                    int[] losses = new int[playerCount];
+                    int remaining = playerCount;
+                    int finalIndex = -1;
+                    for (int i = 0; i < results.size() && finalIndex < 0; i++) {
+                        int[] result = results.get(i);
+                        if (remaining == 2 && losses[result[0]] + losses[result[1]] == 1)
+                            finalIndex = i;
+                        else if (++losses[result[1]] == 2)
+                            remaining--;
+                    }
+                    assertTrue(finalIndex >= 0, "No final was played with " + where);
+
+                    int[] finalResult = results.get(finalIndex);
+                    int finalWinner = finalResult[0];
+                    int finalLoser = finalResult[1];
+
+                    if (losses[finalWinner] == 1) {
+                        // The winners' bracket champion has only lost once, so they get a rematch
+                        resets++;
+                        assertEquals(finalIndex + 2, results.size(), "Battles after a final won from the losers' bracket with " + where);
+                        int[] reset = results.get(finalIndex + 1);
+                        assertTrue((reset[0] == finalWinner && reset[1] == finalLoser) || (reset[0] == finalLoser && reset[1] == finalWinner),
+                                "The rematch should be between the finalists with " + where);
+                        assertEquals(reset[0], bracket[0].getChampionSlot(), "Champion after a rematch with " + where);
+                        assertEquals(2 * playerCount - 1, bracket[0].getBattleCount(), "Battles of a Bracket with a rematch with " + where);
+                    }
+                    else {
+                        assertEquals(finalIndex + 1, results.size(), "Battles after a final won by the winners' bracket champion with " + where);
+                        assertEquals(finalWinner, bracket[0].getChampionSlot(), "Champion without a rematch with " + where);
+                        assertEquals(2 * playerCount - 2, bracket[0].getBattleCount(), "Battles of a Bracket without a rematch with " + where);
+                    }
+
+                    for (int slot = 0; slot < playerCount; slot++) {
+                        if (slot != bracket[0].getChampionSlot())
+                            assertEquals(2, bracket[0].getLosses(slot), "Losses of slot " + slot + " with " + where);
+                    }
+                }
+            }
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        assertTrue(resets > 0, "No final was won from the losers' bracket, so no rematch was checked");
+    }
+}
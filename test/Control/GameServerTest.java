@@ -0,0 +1,89 @@
+package Control;
+
+import Entity.GameSettings;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntPredicate;
+
+import static Testing.Assert.*;
+
+/**
+ * Plays networked Battles against a GameServer through LoopbackClients.
+ */
+public class GameServerTest {
+    private static final String THANKS = "Thanks for playing!";
+
+    private static GameServer startServer() throws IOException {
+        GameSettings gameSettings = new GameSettings.GameSettingsBuilder()
+                .withPlayerCount(2).withFightsPerBattle(1).withSeed(42).build();
+        GameServer server = new GameServer(0, gameSettings, Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static void awaitWaitingCount(GameServer server, IntPredicate condition, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.test(server.getWaitingCount())) {
+            if (System.currentTimeMillis() > deadline)
+                fail(message);
+            Thread.sleep(10);
+        }
+    }
+
+    public void testTwoPlayersFinishABattle() throws Exception {
+        try (GameServer server = startServer();
+             LoopbackClient first = new LoopbackClient(server.getPort());
+             LoopbackClient second = new LoopbackClient(server.getPort())) {
+            first.sendPetAndSkills("Alpha");
+            second.sendPetAndSkills("Beta");
+
+            List<String> firstLines = first.readAll();
+            List<String> secondLines = second.readAll();
+
+            assertTrue(firstLines.contains(THANKS), "The first player should see the Battle end");
+            assertTrue(secondLines.contains(THANKS), "The second player should see the Battle end");
+            assertEquals(2, server.getConnectionCount(), "Connections");
+        }
+    }
+
+    public void testPlayerLeavingTheLobbyIsNotMatched() throws Exception {
+        try (GameServer server = startServer()) {
+            try (LoopbackClient leaving = new LoopbackClient(server.getPort())) {
+                leaving.send("1", "Gone", "100");
+                leaving.readUntil("Waiting for opponents...");
+                awaitWaitingCount(server, count -> count == 1, "The pet never joined the lobby");
+            }
+
+            awaitWaitingCount(server, count -> count == 0, "The disconnected pet was never removed from the lobby");
+
+            try (LoopbackClient first = new LoopbackClient(server.getPort());
+                 LoopbackClient second = new LoopbackClient(server.getPort())) {
+                first.sendPetAndSkills("Alpha");
+                second.sendPetAndSkills("Beta");
+
+                assertTrue(first.readAll().contains(THANKS), "The first player should not be matched with the disconnected pet");
+                assertTrue(second.readAll().contains(THANKS), "The second player should not be matched with the disconnected pet");
+            }
+        }
+    }
+
+    public void testCloseShutsDownTheExecutor() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        GameSettings gameSettings = new GameSettings.GameSettingsBuilder().withPlayerCount(2).withFightsPerBattle(1).build();
+        GameServer server = new GameServer(0, gameSettings, executor);
+        server.start();
+
+        try (LoopbackClient waiting = new LoopbackClient(server.getPort())) {
+            waiting.send("1", "Waiting", "100");
+            waiting.readUntil("Waiting for opponents...");
+
+            server.close();
+
+            assertTrue(executor.isShutdown(), "Closing the server should shut down its executor");
+            waiting.readAll();
+        }
+    }
+}
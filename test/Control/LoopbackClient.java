@@ -0,0 +1,98 @@
+package Control;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A player connected to a GameServer over the loopback interface. It sends answers as
+ * plain text lines and collects every line the server sends back.
+ */
+class LoopbackClient implements AutoCloseable {
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final List<String> received;
+
+    /**
+     * Connects to a GameServer on localhost.
+     * @param port The port the server is listening on.
+     * @throws IOException If the server cannot be reached.
+     */
+    LoopbackClient(int port) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        this.socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+        this.received = new ArrayList<>();
+    }
+
+    /**
+     * Sends answers to the server, one line each.
+     * @param lines The answers to send.
+     * @throws IOException If the connection has failed.
+     */
+    void send(String... lines) throws IOException {
+        for (String line : lines)
+            writer.write(line + "\n");
+        writer.flush();
+    }
+
+    /**
+     * Sends a Pet's setup answers followed by enough Skill choices to finish a Battle. The
+     * choices cycle through every Skill, so a recharging Skill is only ever asked again.
+     * @param petName The name of the player's pet.
+     * @throws IOException If the connection has failed.
+     */
+    void sendPetAndSkills(String petName) throws IOException {
+        send("1", petName, "100");
+
+        String[] skills = new String[5000];
+        for (int i = 0; i < skills.length; i++)
+            skills[i] = Integer.toString(i % 5 + 1);
+        send(skills);
+    }
+
+    /**
+     * Reads lines until one equal to the given line arrives.
+     * @param line The line to wait for.
+     * @throws IOException If the connection closes or times out first.
+     */
+    void readUntil(String line) throws IOException {
+        String next;
+        while ((next = reader.readLine()) != null) {
+            received.add(next);
+            if (next.equals(line))
+                return;
+        }
+
+        throw new IOException("The connection closed before \"" + line + "\" was received.");
+    }
+
+    /**
+     * Reads every line until the server closes the connection.
+     * @return Every line received on the connection.
+     * @throws IOException If the connection times out.
+     */
+    List<String> readAll() throws IOException {
+        String next;
+        while ((next = reader.readLine()) != null)
+            received.add(next);
+
+        return received;
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
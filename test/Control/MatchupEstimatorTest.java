@@ -0,0 +1,63 @@
+package Control;
+
+import Entity.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks MatchupEstimator win probabilities and their confidence intervals.
+ */
+public class MatchupEstimatorTest {
+    private static MatchupSettings createSettings(double petOneStartingHp, double petTwoStartingHp, int fightCount) {
+        return new MatchupSettings.MatchupSettingsBuilder()
+                .withPetOne(PetTypes.POWER, petOneStartingHp)
+                .withPetTwo(PetTypes.SPEED, petTwoStartingHp)
+                .withSeedRange(2024, fightCount)
+                .build();
+    }
+
+    public void testLopsidedMatchupIsNearlyAlwaysWon() {
+        MatchupEstimate estimate = new MatchupEstimator().estimate(createSettings(200, 10, 2000));
+
+        assertEquals(2000, estimate.getFightCount(), "Every Fight should be counted");
+        assertTrue(estimate.getWinProbability() > 0.95,
+                "A pet with 20 times the HP should nearly always win, got " + estimate.getWinProbability());
+    }
+
+    public void testConfidenceIntervalContainsEstimate() {
+        for (MatchupSettings settings : new MatchupSettings[] {
+                createSettings(200, 10, 2000), createSettings(10, 200, 2000), createSettings(50, 50, 2000) }) {
+            MatchupEstimate estimate = new MatchupEstimator().estimate(settings);
+            double probability = estimate.getWinProbability();
+
+            assertTrue(estimate.getConfidenceLow() <= probability && probability <= estimate.getConfidenceHigh(),
+                    "The interval [" + estimate.getConfidenceLow() + ", " + estimate.getConfidenceHigh()
+                            + "] should contain " + probability);
+            assertTrue(estimate.getConfidenceLow() >= 0 && estimate.getConfidenceHigh() <= 1,
+                    "The interval should stay within [0, 1]");
+        }
+    }
+
+    public void testEstimateDoesNotDependOnThreadCount() {
+        // Large enough to be split into several tasks
+        MatchupSettings settings = createSettings(50, 50, 20000);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool several = new ForkJoinPool(4);
+        try {
+            MatchupEstimate one = new MatchupEstimator(single).estimate(settings);
+            MatchupEstimate four = new MatchupEstimator(several).estimate(settings);
+
+            assertEquals(one.getPetOneWins(), four.getPetOneWins(), "Wins should not depend on the thread count");
+            for (int rounds = 0; rounds <= one.getLongestFight(); rounds++)
+                assertEquals(one.getFightLengthCount(rounds), four.getFightLengthCount(rounds),
+                        "Fights lasting " + rounds + " rounds should not depend on the thread count");
+        }
+        finally {
+            single.shutdown();
+            several.shutdown();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package Control;
+
+import Entity.*;
+import Testing.Rosters;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks that RatingEngine keeps ratings consistent when Battles are rated from several
+ * threads, and that saved ratings load back unchanged.
+ */
+public class RatingEngineTest {
+    private static final int PET_COUNT = 150;
+    private static final int THREAD_COUNT = 8;
+    private static final int BATTLES_PER_THREAD = 5000;
+
+    private static List<Playable> createPets() {
+        return Rosters.createAIPets(PET_COUNT, i -> 50, i -> i);
+    }
+
+    private static Battle createBattle(Playable winner, Playable loser) {
+        List<Playable> players = new ArrayList<>();
+        players.add(winner);
+        players.add(loser);
+
+        Battle battle = new Battle(1, players);
+        battle.incrementWins(0);
+        return battle;
+    }
+
+    private static double sumRatings(RatingEngine ratingEngine, List<Playable> pets) {
+        double sum = 0;
+        for (Playable pet : pets)
+            sum += ratingEngine.getRating(pet);
+        return sum;
+    }
+
+    public void testConcurrentBattlesKeepRatingsSum() throws InterruptedException {
+        List<Playable> pets = createPets();
+        RatingEngine ratingEngine = new RatingEngine();
+        List<Throwable> failures = new ArrayList<>();
+
+        // More pets than stripes, and pets registered while other threads rate, so both locks are exercised
+        Thread[] threads = new Thread[THREAD_COUNT];
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            Random random = new Random(t);
+            threads[t] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < BATTLES_PER_THREAD; i++) {
+                        int winner = random.nextInt(PET_COUNT);
+                        int loser = (winner + 1 + random.nextInt(PET_COUNT - 1)) % PET_COUNT;
+                        ratingEngine.recordBattle(createBattle(pets.get(winner), pets.get(loser)));
+                    }
+                }
+                catch (Throwable ex) {
+                    synchronized (failures) {
+                        failures.add(ex);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        assertTrue(failures.isEmpty(), "Rating Battles should not fail: " + failures);
+        assertEquals(PET_COUNT, ratingEngine.getRatedCount(), "Every pet should be rated");
+
+        double expectedSum = RatingEngine.DEFAULT_RATING * PET_COUNT;
+        double sum = sumRatings(ratingEngine, pets);
+        assertTrue(Math.abs(sum - expectedSum) < 1e-6, "Ratings should sum to " + expectedSum + " but sum to " + sum);
+
+        long battleCount = 0;
+        for (Playable pet : pets)
+            battleCount += ratingEngine.getBattleCount(pet.getPetName());
+        assertEquals(2L * THREAD_COUNT * BATTLES_PER_THREAD, battleCount, "Every Battle should count for both pets");
+    }
+
+    public void testSaveAndLoadKeepRatings() throws IOException {
+        List<Playable> pets = createPets();
+        RatingEngine ratingEngine = new RatingEngine(24);
+        Random random = new Random(5);
+        for (int i = 0; i < 2000; i++) {
+            int winner = random.nextInt(PET_COUNT);
+            int loser = (winner + 1 + random.nextInt(PET_COUNT - 1)) % PET_COUNT;
+            ratingEngine.recordBattle(createBattle(pets.get(winner), pets.get(loser)));
+        }
+
+        Path directory = Files.createTempDirectory("ratings");
+        Path path = directory.resolve("ratings.bin");
+        try {
+            ratingEngine.save(path);
+            // Saving again replaces the file
+            ratingEngine.save(path);
+            RatingEngine loaded = RatingEngine.load(path);
+
+            assertEquals(ratingEngine.getKFactor(), loaded.getKFactor(), "The K-factor should be saved");
+            assertEquals(ratingEngine.getRatedCount(), loaded.getRatedCount(), "Every rated pet should be saved");
+            for (Playable pet : pets) {
+                assertEquals(ratingEngine.getRating(pet), loaded.getRating(pet), "The rating of " + pet.getPetName() + " should be saved");
+                assertEquals(ratingEngine.getBattleCount(pet.getPetName()), loaded.getBattleCount(pet.getPetName()),
+                        "The Battle count of " + pet.getPetName() + " should be saved");
+            }
+
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(1L, files.count(), "No temporary file should be left beside the ratings");
+            }
+        }
+        finally {
+            Files.deleteIfExists(path);
+            Files.delete(directory);
+        }
+    }
+}
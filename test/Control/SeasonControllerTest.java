@@ -0,0 +1,106 @@
+package Control;
+
+import Entity.*;
+import Testing.Rosters;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks that a Season resumed from a checkpoint ends exactly as one played without stopping.
+ */
+public class SeasonControllerTest {
+    private static final int PLAYER_COUNT = 13;
+    private static final int FIGHTS_PER_BATTLE = 3;
+    private static final int SEED = 77;
+
+    /**
+     * Thrown by a sink to stop a Season as a SeasonRound starts, as if the process had died.
+     */
+    private static class Stop extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static List<Playable> createRoster() {
+        return Rosters.createAIPets(PLAYER_COUNT, i -> 40 + 7 * i % 50, i -> i * 31);
+    }
+
+    private static GameEventBus createBus(int stopAtRound) {
+        GameEventBus eventBus = new GameEventBus();
+        if (stopAtRound > 0) {
+            eventBus.subscribe(new GameEventSink() {
+                @Override
+                public void onSeasonRoundStarted(GameEvent.SeasonRoundStarted event) {
+                    if (event.getRoundNumber() == stopAtRound)
+                        throw new Stop();
+                }
+            });
+        }
+        return eventBus;
+    }
+
+    private static Season playSequential(Path checkpoint, int stopAtRound, boolean resume) throws IOException {
+        RestorableRandom rng = new RestorableRandom(SEED);
+        SeasonController seasonController = new SeasonController(rng, new BattleController(rng, FIGHTS_PER_BATTLE, createBus(stopAtRound)));
+        seasonController.enableCheckpoints(checkpoint, 1);
+        return resume ? seasonController.resume(createRoster()) : seasonController.start(createRoster());
+    }
+
+    private static Season playParallel(Path checkpoint, int stopAtRound, boolean resume) throws IOException {
+        GameSettings gameSettings = new GameSettings.GameSettingsBuilder()
+                .withPlayerCount(PLAYER_COUNT).withFightsPerBattle(FIGHTS_PER_BATTLE).withSeed(SEED).build();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelSeasonController seasonController = new ParallelSeasonController(gameSettings, pool, createBus(stopAtRound));
+            seasonController.enableCheckpoints(checkpoint, 1);
+            return resume ? seasonController.resume(createRoster()) : seasonController.start(createRoster());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private interface SeasonPlayer {
+        Season play(Path checkpoint, int stopAtRound, boolean resume) throws IOException;
+    }
+
+    private static void assertResumeMatches(SeasonPlayer seasonPlayer) throws IOException {
+        Path checkpoint = Files.createTempFile("season", ".checkpoint");
+        try {
+            Season uninterrupted = seasonPlayer.play(checkpoint, 0, false);
+
+            for (int stopAtRound : new int[] {2, 5, 9, PLAYER_COUNT}) {
+                Files.delete(checkpoint);
+                try {
+                    seasonPlayer.play(checkpoint, stopAtRound, false);
+                    fail("The Season should have stopped at round " + stopAtRound);
+                }
+                catch (Stop expected) {
+                    // The checkpoint of the last completed SeasonRound is left behind
+                }
+
+                Season resumed = seasonPlayer.play(checkpoint, 0, true);
+
+                for (int slot = 0; slot < PLAYER_COUNT; slot++)
+                    assertEquals(uninterrupted.getWins(slot), resumed.getWins(slot), "Wins of slot " + slot + " after stopping at round " + stopAtRound);
+                assertEquals(uninterrupted.getBattleNumber(), resumed.getBattleNumber(), "Battle number after stopping at round " + stopAtRound);
+            }
+        }
+        finally {
+            Files.deleteIfExists(checkpoint);
+        }
+    }
+
+    public void testSequentialResumeMatchesUninterruptedSeason() throws IOException {
+        assertResumeMatches(SeasonControllerTest::playSequential);
+    }
+
+    public void testParallelResumeMatchesUninterruptedSeason() throws IOException {
+        assertResumeMatches(SeasonControllerTest::playParallel);
+    }
+}
@@ -0,0 +1,97 @@
+package Control;
+
+import Entity.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks that the merged results of a sharded Season equal the same Season played in one process.
+ */
+public class ShardCoordinatorTest {
+    private static final int PLAYER_COUNT = 12;
+
+    private static List<String> createSettings() {
+        List<String> lines = new ArrayList<>();
+        lines.add("seed=2024");
+        lines.add("fights=3");
+        for (int i = 0; i < PLAYER_COUNT; i++)
+            lines.add("pet=Pet" + i + ":" + PetTypes.values()[i % 3] + ":" + (50 + 5 * i) + ":" + (i * 17));
+        return lines;
+    }
+
+    private static HeadlessBattlePets parseSettings(Path settingsPath) {
+        HeadlessBattlePets settings = new HeadlessBattlePets();
+        settings.parseFile(settingsPath.toString());
+        return settings;
+    }
+
+    private static Season playInOneProcess(Path settingsPath) {
+        HeadlessBattlePets settings = parseSettings(settingsPath);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            return new ParallelSeasonController(settings.getGameSettings(), pool, new GameEventBus()).start(settings.getPlayables());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testMergedShardsMatchSingleProcessSeason() throws IOException {
+        Path settingsPath = Files.createTempFile("season", ".settings");
+        try {
+            Files.write(settingsPath, createSettings());
+            Season expected = playInOneProcess(settingsPath);
+
+            for (int shardCount : new int[] {1, 3, 7}) {
+                int[] wins = new int[PLAYER_COUNT];
+                int battleCount = 0;
+                for (int shard = 0; shard < shardCount; shard++) {
+                    // Every shard gets a fresh roster, as it would in its own worker process
+                    HeadlessBattlePets settings = parseSettings(settingsPath);
+                    ShardResult result = ShardWorker.playShard(settings.getPlayables(), settings.getGameSettings(), shard, shardCount);
+                    for (int slot = 0; slot < PLAYER_COUNT; slot++)
+                        wins[slot] += result.getWins(slot);
+                    battleCount += result.getBattleCount();
+                }
+
+                for (int slot = 0; slot < PLAYER_COUNT; slot++)
+                    assertEquals(expected.getWins(slot), wins[slot], "Wins of slot " + slot + " with " + shardCount + " shards");
+                assertEquals(expected.getBattleList().size(), battleCount, "Battles played with " + shardCount + " shards");
+            }
+        }
+        finally {
+            Files.deleteIfExists(settingsPath);
+        }
+    }
+
+    public void testCoordinatorMatchesSingleProcessSeason() throws IOException {
+        Path workDirectory = Files.createTempDirectory("battlepets-shards");
+        Path settingsPath = workDirectory.resolve("season.settings");
+        try {
+            Files.write(settingsPath, createSettings());
+
+            Season expected = playInOneProcess(settingsPath);
+            ShardCoordinator coordinator = new ShardCoordinator(settingsPath, 3, workDirectory, new GameEventBus());
+            Season merged = coordinator.start();
+
+            for (int slot = 0; slot < PLAYER_COUNT; slot++)
+                assertEquals(expected.getWins(slot), merged.getWins(slot), "Wins of slot " + slot);
+            assertEquals(expected.getBattleList().size(), coordinator.getBattleCount(), "Battles played");
+        }
+        finally {
+            try (Stream<Path> files = Files.list(workDirectory)) {
+                for (Path file : (Iterable<Path>) files::iterator)
+                    Files.delete(file);
+            }
+            Files.delete(workDirectory);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Control;
+
+import Entity.*;
+import Testing.Rosters;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks the pairings of Swiss tournaments, as published on the tournament's GameEventBus.
+ */
+public class SwissControllerTest {
+    private static final int[] PLAYER_COUNTS = {2, 3, 4, 5, 8, 13, 21, 33};
+
+    /**
+     * Records which slot played in every round, and how many byes each slot received.
+     */
+    private static class PairingRecorder implements GameEventSink {
+        private final Map<Playable, Integer> slots;
+        private final int[] byes;
+        private int[] appearances;
+        private int roundsStarted;
+
+        private PairingRecorder(List<Playable> playables) {
+            this.slots = new IdentityHashMap<>();
+            for (int slot = 0; slot < playables.size(); slot++)
+                slots.put(playables.get(slot), slot);
+            this.byes = new int[playables.size()];
+        }
+
+        @Override
+        public void onSwissRoundStarted(GameEvent.SwissRoundStarted event) {
+            assertEveryoneAppearedOnce();
+            appearances = new int[byes.length];
+            roundsStarted++;
+        }
+
+        @Override
+        public void onSeasonBattleStarted(GameEvent.SeasonBattleStarted event) {
+            int first = slots.get(event.getPlayers().get(0));
+            int second = slots.get(event.getPlayers().get(1));
+
+            assertTrue(first != second, "Slot " + first + " was paired with itself in round " + roundsStarted);
+            appearances[first]++;
+            appearances[second]++;
+        }
+
+        @Override
+        public void onSeasonBye(GameEvent.SeasonBye event) {
+            int slot = slots.get(event.getPlayer());
+            byes[slot]++;
+            appearances[slot]++;
+        }
+
+        private void assertEveryoneAppearedOnce() {
+            if (appearances == null)
+                return;
+
+            for (int slot = 0; slot < appearances.length; slot++)
+                assertEquals(1, appearances[slot], "Matchups of slot " + slot + " in round " + roundsStarted);
+        }
+    }
+
+    private static void assertPairings(int playerCount, int roundCount) {
+        List<Playable> playables = Rosters.createAIPets(playerCount, i -> 20 + i % 7, i -> i);
+        PairingRecorder recorder = new PairingRecorder(playables);
+        BattleController battleController = new BattleController(new Random(playerCount), 1, new GameEventBus(recorder));
+
+        SwissTournament tournament = new SwissController(battleController, roundCount).start(playables);
+        recorder.assertEveryoneAppearedOnce();
+
+        String where = playerCount + " players over " + tournament.getRoundCount() + " rounds";
+        assertEquals(tournament.getRoundCount(), recorder.roundsStarted, "Rounds started with " + where);
+
+        int byeCount = 0;
+        int scoreTotal = 0;
+        for (int slot = 0; slot < playerCount; slot++) {
+            assertTrue(recorder.byes[slot] <= 1, "Slot " + slot + " received " + recorder.byes[slot] + " byes with " + where);
+            assertEquals(recorder.byes[slot] == 1, tournament.hasHadBye(slot), "Bye of slot " + slot + " with " + where);
+            byeCount += recorder.byes[slot];
+            scoreTotal += tournament.getScore(slot);
+        }
+
+        assertEquals(playerCount % 2 == 0 ? 0 : tournament.getRoundCount(), byeCount, "Byes with " + where);
+        assertEquals(tournament.getBattleList().size() + byeCount, scoreTotal, "Points awarded with " + where);
+    }
+
+    public void testDefaultRoundsPairEveryoneOnce() {
+        for (int playerCount : PLAYER_COUNTS)
+            assertPairings(playerCount, -1);
+    }
+
+    public void testOneRoundPerPlayerGivesAtMostOneByeEach() {
+        // An odd roster can play as many rounds as it has players before anyone needs a second bye
+        for (int playerCount : PLAYER_COUNTS)
+            assertPairings(playerCount, playerCount % 2 == 0 ? playerCount - 1 : playerCount);
+    }
+}
@@ -0,0 +1,37 @@
+package Entity;
+
+import Control.BattleController;
+import Control.GameEventBus;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks that an ExpectimaxPet without a time budget still plays Fights in reasonable time.
+ */
+public class ExpectimaxPetTest {
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    public void testUnbudgetedDefaultDepthFightFinishes() throws InterruptedException {
+        ExpectimaxPet searcher = new ExpectimaxPet.ExpectimaxPetBuilder()
+                .withPlayer(new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Player 0").build())
+                .withName("A").withType(PetTypes.POWER).withStartingHp(50).withMoveBudget(0).build();
+        AIPet opponent = new AIPet.AIPetBuilder()
+                .withPlayer(new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Player 1").build())
+                .withName("B").withType(PetTypes.SPEED).withStartingHp(50).withSeed(3).build();
+
+        Battle[] battle = new Battle[1];
+        Thread game = new Thread(() ->
+                battle[0] = new BattleController(new Random(0), 1, new GameEventBus()).start(Arrays.asList(searcher, opponent)));
+        game.setDaemon(true);
+        game.start();
+        game.join(TIMEOUT_MILLIS);
+
+        assertFalse(game.isAlive(), "A Fight searched to the default depth without a time budget did not finish in " + TIMEOUT_MILLIS + " ms");
+        assertEquals(1, battle[0].getFightList().size(), "Fights played");
+        assertTrue(searcher.getSearch().getCompletedDepth() <= ExpectimaxPet.DEFAULT_UNBUDGETED_MAX_DEPTH,
+                "Searched " + searcher.getSearch().getCompletedDepth() + " Rounds ahead without a time budget");
+    }
+}
@@ -0,0 +1,91 @@
+package Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks the computed Round Robin schedule against the circle rotation SeasonIterator used
+ * to perform, which moved the last participant to index 1 after every round.
+ */
+public class RoundRobinScheduleTest {
+    private static final int MAX_PLAYERS = 24;
+
+    /**
+     * The rotation SeasonIterator used to apply between rounds: index 0 stays fixed, and
+     * every other participant moves one index right, with the last one moving to index 1.
+     */
+    private static void shift(List<Integer> participants) {
+        int n = participants.size();
+        Integer last = participants.get(n - 1);
+        for (int i = n - 1; i > 1; i--)
+            participants.set(i, participants.get(i - 1));
+        participants.set(1, last);
+    }
+
+    public void testScheduleMatchesShiftRotation() {
+        for (int playerCount = 2; playerCount <= MAX_PLAYERS; playerCount++) {
+            RoundRobinSchedule schedule = new RoundRobinSchedule(playerCount);
+
+            List<Integer> participants = new ArrayList<>();
+            for (int slot = 0; slot < playerCount; slot++)
+                participants.add(slot);
+            if (playerCount % 2 != 0)
+                participants.add(RoundRobinSchedule.DUMMY_SLOT);
+            int n = participants.size();
+
+            assertEquals(n - 1, schedule.getRoundCount(), "Rounds for " + playerCount + " players");
+            assertEquals(n / 2, schedule.getMatchupCount(), "Matchups for " + playerCount + " players");
+
+            for (int round = 0; round < schedule.getRoundCount(); round++) {
+                for (int matchup = 0; matchup < n / 2; matchup++) {
+                    String where = playerCount + " players, round " + round + ", matchup " + matchup;
+                    assertEquals(participants.get(matchup).intValue(), schedule.getSlot(round, matchup, 0), "First side for " + where);
+                    assertEquals(participants.get(n - 1 - matchup).intValue(), schedule.getSlot(round, matchup, 1), "Second side for " + where);
+                }
+                shift(participants);
+            }
+        }
+    }
+
+    public void testOpponentSlotMatchesMatchups() {
+        for (int playerCount = 2; playerCount <= MAX_PLAYERS; playerCount++) {
+            RoundRobinSchedule schedule = new RoundRobinSchedule(playerCount);
+
+            for (int round = 0; round < schedule.getRoundCount(); round++) {
+                for (int matchup = 0; matchup < schedule.getMatchupCount(); matchup++) {
+                    int first = schedule.getSlot(round, matchup, 0);
+                    int second = schedule.getSlot(round, matchup, 1);
+                    if (first != RoundRobinSchedule.DUMMY_SLOT)
+                        assertEquals(second, schedule.getOpponentSlot(round, first), "Opponent of slot " + first + " in round " + round);
+                    if (second != RoundRobinSchedule.DUMMY_SLOT)
+                        assertEquals(first, schedule.getOpponentSlot(round, second), "Opponent of slot " + second + " in round " + round);
+                }
+            }
+        }
+    }
+
+    public void testEveryPairMeetsOnce() {
+        for (int playerCount = 2; playerCount <= MAX_PLAYERS; playerCount++) {
+            RoundRobinSchedule schedule = new RoundRobinSchedule(playerCount);
+            int[][] meetings = new int[playerCount][playerCount];
+
+            for (int round = 0; round < schedule.getRoundCount(); round++) {
+                for (int matchup = 0; matchup < schedule.getMatchupCount(); matchup++) {
+                    int first = schedule.getSlot(round, matchup, 0);
+                    int second = schedule.getSlot(round, matchup, 1);
+                    if (first != RoundRobinSchedule.DUMMY_SLOT && second != RoundRobinSchedule.DUMMY_SLOT) {
+                        meetings[first][second]++;
+                        meetings[second][first]++;
+                    }
+                }
+            }
+
+            for (int a = 0; a < playerCount; a++) {
+                for (int b = 0; b < playerCount; b++)
+                    assertEquals(a == b ? 0 : 1, meetings[a][b], "Meetings of slots " + a + " and " + b + " with " + playerCount + " players");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package Entity;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static Testing.Assert.*;
+
+/**
+ * Checks the Standings heap and Fenwick tree against sorting every player by wins.
+ */
+public class StandingsTest {
+    private static final int[] PLAYER_COUNTS = {0, 1, 2, 3, 7, 16, 33, 100};
+    private static final int WINS_RECORDED = 2000;
+
+    /**
+     * @return Every slot sorted by wins, most first, with ties going to the foremost slot.
+     */
+    private static int[] sortByWins(int[] wins) {
+        return IntStream.range(0, wins.length).boxed()
+                .sorted(Comparator.comparingInt((Integer slot) -> -wins[slot]).thenComparingInt(slot -> slot))
+                .mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void assertMatchesSort(Standings standings, int[] wins, String where) {
+        int[] sorted = sortByWins(wins);
+
+        assertEquals(sorted.length == 0 ? -1 : sorted[0], standings.getLeader(), "Leader " + where);
+        for (int k : new int[] {0, 1, 3, 10, wins.length, wins.length + 5}) {
+            int[] expected = Arrays.copyOf(sorted, Math.min(k, sorted.length));
+            assertTrue(Arrays.equals(expected, standings.getTopSlots(k)),
+                    "Top " + k + " " + where + ": expected " + Arrays.toString(expected) + " but was " + Arrays.toString(standings.getTopSlots(k)));
+        }
+
+        for (int slot = 0; slot < wins.length; slot++) {
+            int ahead = 0;
+            for (int win : wins) {
+                if (win > wins[slot])
+                    ahead++;
+            }
+            assertEquals(wins[slot], standings.getWins(slot), "Wins of slot " + slot + " " + where);
+            assertEquals(ahead + 1, standings.getRank(slot), "Rank of slot " + slot + " " + where);
+        }
+    }
+
+    public void testRecordedWinsMatchSort() {
+        Random rng = new Random(21);
+
+        for (int playerCount : PLAYER_COUNTS) {
+            Standings standings = new Standings(playerCount);
+            int[] wins = new int[playerCount];
+            assertMatchesSort(standings, wins, "with " + playerCount + " players before any wins");
+
+            for (int i = 0; playerCount > 0 && i < WINS_RECORDED; i++) {
+                // Favour a few players so the leaders pull ahead while the rest stay tied
+                int slot = rng.nextBoolean() ? rng.nextInt(Math.min(playerCount, 3)) : rng.nextInt(playerCount);
+                standings.incrementWins(slot);
+                wins[slot]++;
+
+                if (i % 97 == 0 || i == WINS_RECORDED - 1)
+                    assertMatchesSort(standings, wins, "with " + playerCount + " players after " + (i + 1) + " wins");
+            }
+        }
+    }
+
+    public void testSavedWinsMatchSort() {
+        Random rng = new Random(42);
+
+        for (int playerCount : PLAYER_COUNTS) {
+            int[] wins = new int[playerCount];
+            for (int slot = 0; slot < playerCount; slot++)
+                wins[slot] = rng.nextInt(20);
+
+            Standings standings = new Standings(wins);
+            assertMatchesSort(standings, wins, "loaded with " + playerCount + " players");
+
+            for (int slot = playerCount - 1; slot >= 0; slot--) {
+                standings.incrementWins(slot);
+                wins[slot]++;
+            }
+            assertMatchesSort(standings, wins, "loaded with " + playerCount + " players after more wins");
+        }
+    }
+}
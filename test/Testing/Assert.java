@@ -0,0 +1,35 @@
+package Testing;
+
+import java.util.Objects;
+
+/**
+ * The checks made by tests. Each one throws an AssertionError describing the mismatch.
+ */
+public final class Assert {
+    private Assert() {
+
+    }
+
+    public static void assertTrue(boolean condition, String message) {
+        if (!condition)
+            throw new AssertionError(message);
+    }
+
+    public static void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    public static void assertEquals(Object expected, Object actual, String message) {
+        if (!Objects.equals(expected, actual))
+            throw new AssertionError(message + ": expected <" + expected + "> but was <" + actual + ">");
+    }
+
+    public static void assertEquals(long expected, long actual, String message) {
+        if (expected != actual)
+            throw new AssertionError(message + ": expected <" + expected + "> but was <" + actual + ">");
+    }
+
+    public static void fail(String message) {
+        throw new AssertionError(message);
+    }
+}
@@ -0,0 +1,36 @@
+package Testing;
+
+import Entity.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Builds the rosters of computer players that tests play games with.
+ */
+public final class Rosters {
+    private Rosters() {
+
+    }
+
+    /**
+     * Builds a roster where player i is "Player i" with the AIPet "Pet i", and pet types cycle
+     * through Power, Speed and Intelligence.
+     * @param playerCount The number of players.
+     * @param startingHp The starting HP of pet i.
+     * @param seed The random seed of pet i.
+     * @return The new roster.
+     */
+    public static List<Playable> createAIPets(int playerCount, IntToDoubleFunction startingHp, IntUnaryOperator seed) {
+        List<Playable> playables = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            Player player = new Player.PlayerBuilder().withType(PlayerTypes.COMPUTER).withName("Player " + i).build();
+            playables.add(new AIPet.AIPetBuilder().withPlayer(player).withName("Pet " + i)
+                    .withType(PetTypes.values()[i % PetTypes.values().length])
+                    .withStartingHp(startingHp.applyAsDouble(i)).withSeed(seed.applyAsInt(i)).build());
+        }
+        return playables;
+    }
+}
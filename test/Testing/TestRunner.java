@@ -0,0 +1,53 @@
+package Testing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Runs tests without a test framework. Every public, non-static, no-argument method
+ * whose name starts with "test" is run on a new instance of its class.
+ *
+ * Usage, from the project directory:
+ *   javac -d out $(find src test -name '*.java')
+ *   java -cp out Testing.TestRunner Control.GameServerTest ...
+ */
+public final class TestRunner {
+    private TestRunner() {
+
+    }
+
+    public static void main(String[] args) throws ReflectiveOperationException {
+        int run = 0;
+        int failed = 0;
+
+        for (String className : args) {
+            Class<?> testClass = Class.forName(className);
+            Method[] methods = testClass.getMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+
+            for (Method method : methods) {
+                if (!method.getName().startsWith("test") || method.getParameterCount() != 0
+                        || Modifier.isStatic(method.getModifiers()))
+                    continue;
+
+                run++;
+                try {
+                    method.invoke(testClass.getConstructor().newInstance());
+                    System.out.println("PASS " + className + "." + method.getName());
+                }
+                catch (InvocationTargetException ex) {
+                    failed++;
+                    System.out.println("FAIL " + className + "." + method.getName());
+                    ex.getCause().printStackTrace(System.out);
+                }
+            }
+        }
+
+        System.out.println(run + " tests, " + failed + " failed");
+        if (failed > 0)
+            System.exit(1);
+    }
+}